@@ -0,0 +1,86 @@
+package com.nrzm.demo.auth.jwt;
+
+import com.nrzm.demo.auth.service.AuthUser;
+import com.nrzm.demo.auth.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 무효화 목록 조회가 JwtAuthenticationFilter 요청당 처리 비용에 더하는 시간 측정.
+ * (filter = 무효화 확인을 포함한 필터 전체, revocationCheck = 무효화 확인만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    // 무효화 목록에 미리 등록해 둘 (다른) 토큰 수
+    @Param({"0", "10000", "100000"})
+    public int revokedTokens;
+
+    private JwtAuthenticationFilter filter;
+    private AccessTokenRevocationStore revocationStore;
+    private String accessToken;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (req, res) -> {
+    };
+
+    @Setup
+    public void setUp() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 무상태 인증 모드로 구성하여 DB 조회 없이 필터 자체 비용만 측정
+        JwtProvider jwtProvider = JwtBenchmarkSupport.newProvider(meterRegistry, 300000L, 10000L, true);
+
+        revocationStore = new AccessTokenRevocationStore(meterRegistry, 300000L, Math.max(revokedTokens, 1000));
+        Date expiration = new Date(System.currentTimeMillis() + 300000L);
+        for (int i = 0; i < revokedTokens; i++) {
+            revocationStore.revoke(jwtProvider.createToken("revoked" + i + "@email.com"), expiration);
+        }
+
+        // 클레임만으로 인증하는 경로는 getAuthenticationToken(UserDetails, request) 만 사용하므로 저장소 없이 구성
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null, null, null, null, null);
+        filter = new JwtAuthenticationFilter(jwtProvider, userDetailsService, null, revocationStore);
+        // memberId 가 있는 회원 토큰이어야 클레임만으로 인증됨 (없으면 DB 조회 경로)
+        accessToken = jwtProvider.createToken(new AuthUser("lsg@email.com", "",
+                List.of(new SimpleGrantedAuthority("ROLE_MEMBER")), AuthUser.PrincipalType.MEMBER, 1L));
+
+        request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+
+        // 인증 성공 경로를 측정하는지 확인 (실패하면 401 응답 경로를 측정하게 됨)
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        if (authentication == null || response.getStatus() != 200) {
+            throw new IllegalStateException("JwtAuthenticationFilter did not authenticate the benchmark token");
+        }
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        // 응답은 sendError 로 커밋될 수 있으므로 호출마다 새로 생성
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return revocationStore.isRevoked(accessToken);
+    }
+}
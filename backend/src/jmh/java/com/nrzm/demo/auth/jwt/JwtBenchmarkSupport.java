@@ -0,0 +1,27 @@
+package com.nrzm.demo.auth.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 스프링 컨텍스트 없이 벤치마크용 JwtProvider 구성
+ */
+public final class JwtBenchmarkSupport {
+
+    public static final String SECRET =
+            "your-very-long-secret-key-that-is-at-least-64-bytes-long-0123456789abcdef0123456789abcdef";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    public static JwtProvider newProvider(MeterRegistry meterRegistry, long expiration, long cacheSize, boolean stateless) {
+        JwtProvider jwtProvider = new JwtProvider(meterRegistry);
+        ReflectionTestUtils.setField(jwtProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "expiration", expiration);
+        ReflectionTestUtils.setField(jwtProvider, "refreshExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtProvider, "verifiedTokenCacheSize", cacheSize);
+        ReflectionTestUtils.setField(jwtProvider, "statelessAuthentication", stateless);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+}
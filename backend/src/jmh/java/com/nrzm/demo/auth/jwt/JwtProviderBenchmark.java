@@ -0,0 +1,61 @@
+package com.nrzm.demo.auth.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 토큰 발급/검증 비용.
+ * cacheSize=0 은 검증 캐시가 없는 경우(매번 HMAC-SHA512 검증)에 해당합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = JwtBenchmarkSupport.newProvider(meterRegistry, 300000L, cacheSize, false);
+        accessToken = jwtProvider.createToken("lsg@email.com");
+        // 같은 비밀키로 이미 만료된 토큰 발급
+        expiredToken = JwtBenchmarkSupport.newProvider(new SimpleMeterRegistry(), -60000L, cacheSize, false)
+                .createToken("lsg@email.com");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken("lsg@email.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtProvider.getUsernameFromToken(accessToken);
+    }
+
+    @Benchmark
+    public String getSubjectFromExpiredToken() {
+        return jwtProvider.getSubjectFromExpiredToken(expiredToken);
+    }
+
+    @Benchmark
+    public String createRefreshTokenCookieName() {
+        return jwtProvider.createRefreshTokenCookieName("lsg@email.com");
+    }
+}
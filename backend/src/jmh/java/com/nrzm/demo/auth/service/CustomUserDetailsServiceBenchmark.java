@@ -0,0 +1,54 @@
+package com.nrzm.demo.auth.service;
+
+import com.nrzm.demo.DemoApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2(local 프로파일 초기 데이터) 기준 loadUserByUsername 비용.
+ * admin 은 users(+roles) 조회, lsg@email.com 은 users 조회 실패 후 members 조회 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomUserDetailsServiceBenchmark {
+
+    @Param({"false", "true"})
+    public boolean userCache;
+
+    private ConfigurableApplicationContext context;
+    private CustomUserDetailsService userDetailsService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class).run(
+                "--server.port=0",
+                "--auth.user-cache.enabled=" + userCache,
+                "--security.password.bcrypt.strength=4",
+                "--logging.level.org.springframework=WARN",
+                "--spring.jpa.show-sql=false");
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadAdminUser() {
+        return userDetailsService.loadUserByUsername("admin");
+    }
+
+    @Benchmark
+    public UserDetails loadMember() {
+        return userDetailsService.loadUserByUsername("lsg@email.com");
+    }
+}
@@ -0,0 +1,118 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.DemoApplication;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.entity.OrderItem;
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.OrderRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * H2 기준 대량 INSERT 처리량 (결과 단위: 초당 저장 행 수 - 회원 1행, 주문은 주문 1행 + 주문상품 행).
+ * batchSize=1 은 JDBC 배치 없이 한 행씩 INSERT 하던 이전 동작, 50 은 현재 설정(시퀀스 선할당 + 배치)입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 200;
+    private static final int ITEMS_PER_ORDER = 4;
+    private static final int ORDERS_PER_INVOCATION = ROWS_PER_INVOCATION / (ITEMS_PER_ORDER + 1);
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private MemberRepository memberRepository;
+    private OrderRepository orderRepository;
+    private Member member;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class).run(
+                "--server.port=0",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--security.password.bcrypt.strength=4",
+                "--request-log.enabled=false",
+                "--logging.level.org.springframework=WARN",
+                "--spring.jpa.show-sql=false");
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        memberRepository = context.getBean(MemberRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        member = memberRepository.findByEmail("lsg@email.com").orElseThrow();
+        products = context.getBean(ProductRepository.class).findAll();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insertMembers() {
+        List<Member> members = new ArrayList<>(ROWS_PER_INVOCATION);
+        for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+            long n = sequence.incrementAndGet();
+            Member newMember = new Member();
+            newMember.setUsername("bench" + n);
+            newMember.setPassword("{noop}bench");
+            newMember.setEmail("bench" + n + "@email.com");
+            newMember.setIsDeleted(false);
+            members.add(newMember);
+        }
+        transactionTemplate.executeWithoutResult(status -> memberRepository.saveAll(members));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS_PER_INVOCATION * (ITEMS_PER_ORDER + 1))
+    public void insertOrders() {
+        List<Order> orders = new ArrayList<>(ORDERS_PER_INVOCATION);
+        for (int i = 0; i < ORDERS_PER_INVOCATION; i++) {
+            Order order = new Order();
+            order.setMember(member);
+            order.setOrderNumber("bench-" + sequence.incrementAndGet());
+            order.setOrderDate(LocalDateTime.now());
+            order.setStatus(Order.OrderStatus.PENDING);
+
+            List<OrderItem> items = new ArrayList<>(ITEMS_PER_ORDER);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = products.get(j % products.size());
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1);
+                item.setPrice(product.getPrice());
+                items.add(item);
+                total = total.add(product.getPrice());
+            }
+            order.setOrderItems(items);
+            order.setTotalAmount(total);
+            orders.add(order);
+        }
+        transactionTemplate.executeWithoutResult(status -> orderRepository.saveAll(orders));
+    }
+}
@@ -0,0 +1,56 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.MemberDTO;
+import com.nrzm.demo.entity.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 엔티티 -> MemberDTO 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberServiceBenchmark {
+
+    private static final MethodHandle CONVERT_TO_DTO;
+
+    static {
+        try {
+            CONVERT_TO_DTO = MethodHandles.privateLookupIn(MemberService.class, MethodHandles.lookup())
+                    .findVirtual(MemberService.class, "convertToDTO",
+                            MethodType.methodType(MemberDTO.class, Member.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MemberService memberService;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        memberService = new MemberService();
+
+        member = new Member();
+        member.setMemberId(1L);
+        member.setUsername("이성계");
+        member.setPassword("{bcrypt}");
+        member.setEmail("lsg@email.com");
+        member.setPhoneNumber("010-1234-5678");
+        member.setAddress("전라북도 전주시");
+        member.setIsDeleted(false);
+    }
+
+    @Benchmark
+    public MemberDTO convertToDTO() throws Throwable {
+        return (MemberDTO) CONVERT_TO_DTO.invoke(memberService, member);
+    }
+}
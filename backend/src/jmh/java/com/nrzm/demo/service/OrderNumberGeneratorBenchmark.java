@@ -0,0 +1,38 @@
+package com.nrzm.demo.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문번호 생성 처리량 (초당 발급 수). 스레드 수를 바꿔 실행하면 CAS 경합 시 처리량을 볼 수 있습니다.
+ * 예) ./gradlew jmh -PjmhIncludes=OrderNumberGeneratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+    private final OrderNumberGenerator generator = new OrderNumberGenerator(1);
+
+    @Benchmark
+    @Threads(1)
+    public long nextIdSingleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextIdFourThreads() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String nextOrderNumberSingleThread() {
+        return generator.nextOrderNumber();
+    }
+}
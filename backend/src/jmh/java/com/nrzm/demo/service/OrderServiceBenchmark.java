@@ -0,0 +1,74 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.OrderItemSummary;
+import com.nrzm.demo.dto.OrderSummary;
+import com.nrzm.demo.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 프로젝션 -> OrderDTO 조립 비용 (DB 조회 제외, 한 페이지 분량 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private static final MethodHandle TO_ORDER_DTOS;
+
+    static {
+        try {
+            TO_ORDER_DTOS = MethodHandles.privateLookupIn(OrderService.class, MethodHandles.lookup())
+                    .findVirtual(OrderService.class, "toOrderDTOs",
+                            MethodType.methodType(List.class, List.class, List.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"1", "10"})
+    public int itemCount;
+
+    private final int orderCount = 10;
+
+    private OrderService orderService;
+    private List<OrderSummary> summaries;
+    private List<OrderItemSummary> items;
+
+    @Setup
+    public void setUp() {
+        orderService = new OrderService();
+        summaries = new ArrayList<>();
+        items = new ArrayList<>();
+
+        long itemId = 0;
+        for (long orderId = 1; orderId <= orderCount; orderId++) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (int i = 0; i < itemCount; i++) {
+                BigDecimal price = new BigDecimal("10000");
+                items.add(new OrderItemSummary(orderId, itemId++, (long) i, "상품" + i, 1, price));
+                total = total.add(price);
+            }
+            summaries.add(new OrderSummary(orderId, String.valueOf(orderId), "이성계",
+                    LocalDateTime.now(), total, Order.OrderStatus.SHIPPED, 0L));
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<OrderDTO> toOrderDTOs() throws Throwable {
+        return (List<OrderDTO>) TO_ORDER_DTOS.invoke(orderService, summaries, items);
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.NaturalId;
 
 import java.util.Set;
@@ -15,7 +17,8 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     @NaturalId
     private String username;
@@ -28,5 +31,6 @@ public class User {
             inverseJoinColumns = @JoinColumn(name = "role_id")
     )
     @JsonIgnoreProperties("users")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<Role> roles;
 }
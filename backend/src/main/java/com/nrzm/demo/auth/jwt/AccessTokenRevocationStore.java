@@ -0,0 +1,158 @@
+package com.nrzm.demo.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃(/invalidate-token)된 액세스 토큰 목록.
+ * <p>
+ * 인증 필터가 요청마다 조회하므로, 블룸 필터로 대부분의 조회를 메모리 접근 몇 번으로 끝내고
+ * 블룸 필터가 양성일 때만 정확한 집합을 확인합니다. 정확한 집합의 항목은 토큰의 만료 시각에 자동 삭제되고,
+ * 블룸 필터는 토큰 최대 유효기간마다 세대를 교체하므로 메모리는 유효한 토큰 범위 내로 유지됩니다.
+ * (노드별 메모리 저장소이므로 다중 노드 환경에서는 각 노드에 무효화 요청이 전달되어야 합니다.)
+ */
+@Component
+public class AccessTokenRevocationStore {
+
+    private final long generationMillis;
+    private final int expectedPerGeneration;
+    private final Cache<String, Long> revoked;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt;
+
+    public AccessTokenRevocationStore(MeterRegistry meterRegistry,
+                                      @Value("${jwt.expiration:300000}") long accessTokenExpiration,
+                                      @Value("${jwt.revocation.expected-per-window:100000}") int expectedPerGeneration) {
+        this.generationMillis = accessTokenExpiration;
+        this.expectedPerGeneration = expectedPerGeneration;
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String signature, Long expiresAt, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String signature, Long expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(signature, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String signature, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.current = new BloomFilter(expectedPerGeneration, 0.01);
+        this.previous = new BloomFilter(expectedPerGeneration, 0.01);
+        this.rotatedAt = System.currentTimeMillis();
+
+        Gauge.builder("jwt.revoked.tokens", revoked, cache -> cache.estimatedSize())
+                .description("만료 전 무효화된 액세스 토큰 수")
+                .register(meterRegistry);
+    }
+
+    public synchronized void revoke(String token, Date expiration) {
+        long expiresAt = expiration.getTime();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 보관할 필요 없음
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt >= generationMillis) {
+            // 두 세대 이전에 추가된 토큰은 모두 만료되었으므로 가장 오래된 세대를 버림
+            previous = current;
+            current = new BloomFilter(expectedPerGeneration, 0.01);
+            rotatedAt = now;
+        }
+
+        int start = signatureStart(token);
+        current.put(token, start);
+        revoked.put(token.substring(start), expiresAt);
+    }
+
+    public boolean isRevoked(String token) {
+        int start = signatureStart(token);
+        if (!current.mightContain(token, start) && !previous.mightContain(token, start)) {
+            return false;
+        }
+        return revoked.getIfPresent(token.substring(start)) != null;
+    }
+
+    // 서명 부분만으로 토큰을 식별 (헤더/페이로드가 같아도 서명이 다르면 다른 토큰)
+    private static int signatureStart(String token) {
+        return token.lastIndexOf('.') + 1;
+    }
+
+    static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitCount / 64));
+        }
+
+        void put(String token, int start) {
+            long hash = hash(token, start);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = indexOf(h1 + i * h2);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        boolean mightContain(String token, int start) {
+            long hash = hash(token, start);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = indexOf(h1 + i * h2);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long indexOf(int combinedHash) {
+            return (combinedHash & Integer.MAX_VALUE) % bitCount;
+        }
+
+        // 부분 문자열을 만들지 않고 서명 구간만 해시 (FNV-1a 64bit + 최종 혼합)
+        private static long hash(String token, int start) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = start, length = token.length(); i < length; i++) {
+                h ^= token.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
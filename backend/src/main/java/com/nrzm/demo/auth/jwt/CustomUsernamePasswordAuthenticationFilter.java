@@ -8,6 +8,8 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -29,6 +31,8 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
     private JwtProvider jwtProvider;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private LoginExecutor loginExecutor;
 
     public CustomUsernamePasswordAuthenticationFilter(AuthenticationManager authenticationManager) {
         setAuthenticationManager(authenticationManager);
@@ -55,8 +59,8 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
         // 요청 상세 설정
         setDetails(request, authRequest);
 
-        // AuthenticationManager를 사용하여 인증 시도
-        return this.getAuthenticationManager().authenticate(authRequest);
+        // AuthenticationManager를 사용하여 인증 시도 (비밀번호 검증은 로그인 전용 스레드 풀에서 수행)
+        return loginExecutor.authenticate(() -> this.getAuthenticationManager().authenticate(authRequest));
     }
 
     @Override
@@ -65,7 +69,7 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
         UserDetails userDetails = (UserDetails) authResult.getPrincipal();
 
         // JWT 토큰 생성
-        String token = jwtProvider.createToken(userDetails.getUsername());
+        String token = jwtProvider.createToken(userDetails);
 
         // 리프레시 토큰 생성 및 쿠키에 추가
         String refreshToken = jwtProvider.createRefreshToken(userDetails.getUsername());
@@ -91,7 +95,12 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
                                               AuthenticationException failed) throws IOException, ServletException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        if (failed instanceof LoginThrottledException throttled) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+        } else {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        }
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
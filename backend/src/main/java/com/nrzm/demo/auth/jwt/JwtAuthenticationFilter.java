@@ -1,6 +1,8 @@
 package com.nrzm.demo.auth.jwt;
 
+import com.nrzm.demo.auth.service.AuthUser;
 import com.nrzm.demo.auth.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,6 +12,7 @@ import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,15 +25,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     //JWT 인증 필터가 필요한 경로
     private static final Set<String> FILTER_URIS = Set.of(
             "/admin",
-            "/api"
+            "/api",
+            "/shopping-logs"
     );
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenExchanger refreshTokenExchanger;
+    private final AccessTokenRevocationStore revocationStore;
 
-    public JwtAuthenticationFilter(@Lazy JwtProvider jwtProvider, @Lazy CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(@Lazy JwtProvider jwtProvider, @Lazy CustomUserDetailsService userDetailsService,
+                                   @Lazy RefreshTokenExchanger refreshTokenExchanger,
+                                   @Lazy AccessTokenRevocationStore revocationStore) {
         this.jwtProvider = jwtProvider;
         this.userDetailsService = userDetailsService;
+        this.refreshTokenExchanger = refreshTokenExchanger;
+        this.revocationStore = revocationStore;
     }
 
     @Override
@@ -54,9 +64,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String accessToken = jwtProvider.resolveToken(request);
+            // 서명 검증과 클레임 추출을 한 번에 처리 (검증된 토큰은 캐시에서 조회)
+            Claims claims = accessToken != null ? jwtProvider.getVerifiedClaims(accessToken) : null;
 
-            if (accessToken != null && jwtProvider.validateToken(accessToken)) {
-                setAuthentication(accessToken, request);
+            if (claims != null) {
+                if (revocationStore.isRevoked(accessToken)) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "무효화된 토큰입니다. Token has been revoked");
+                    return;
+                }
+                setAuthentication(claims, request);
             } else {
                 String usernameFromExpiredToken = jwtProvider.getSubjectFromExpiredToken(accessToken);
                 handleRefreshToken(request, response, usernameFromExpiredToken);
@@ -69,19 +85,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(String token, HttpServletRequest request) {
-        String usernameFromToken = jwtProvider.getUsernameFromToken(token);
-        UsernamePasswordAuthenticationToken authenticationToken = userDetailsService.getAuthenticationToken(usernameFromToken, request);
+    private void setAuthentication(Claims claims, HttpServletRequest request) {
+        // 무상태 인증 모드에서는 토큰 클레임만으로 인증 정보 구성 (DB 조회 생략)
+        AuthUser principal = jwtProvider.getPrincipalFromClaims(claims);
+        UsernamePasswordAuthenticationToken authenticationToken = principal != null
+                ? userDetailsService.getAuthenticationToken(principal, request)
+                : userDetailsService.getAuthenticationToken(claims.getSubject(), request);
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
+
+    private void setAuthentication(UserDetails userDetails, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authenticationToken = userDetailsService.getAuthenticationToken(userDetails, request);
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
     }
 
     private void handleRefreshToken(HttpServletRequest request, HttpServletResponse response, String usernameFromExpiredToken) throws IOException {
         String refreshToken = jwtProvider.resolveRefreshToken(request, usernameFromExpiredToken);
-        if (refreshToken != null && jwtProvider.validateToken(refreshToken)) {
-            String username = jwtProvider.getUsernameFromToken(refreshToken);
-            String newAccessToken = jwtProvider.createToken(username);
-            response.setHeader("Authorization", "Bearer " + newAccessToken);
-            setAuthentication(newAccessToken, request);
+        // 같은 리프레시 토큰에 대한 동시 갱신 요청은 한 번만 발급하고 결과를 공유
+        RefreshTokenExchanger.Result refreshed = refreshToken != null
+                ? refreshTokenExchanger.exchange(usernameFromExpiredToken, refreshToken) : null;
+        if (refreshed != null) {
+            response.setHeader("Authorization", "Bearer " + refreshed.accessToken());
+            setAuthentication(refreshed.userDetails(), request);
         } else if (refreshToken != null) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "갱신용 토큰 정보에 문제가 있습니다. Refresh token is invalid or expired");
         }
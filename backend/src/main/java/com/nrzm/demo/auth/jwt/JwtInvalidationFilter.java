@@ -1,5 +1,6 @@
 package com.nrzm.demo.auth.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,9 +13,14 @@ public class JwtInvalidationFilter extends OncePerRequestFilter {
 
     private static final String INVALIDATION_PATH = "/invalidate-token";
     private final JwtProvider jwtProvider;
+    private final AccessTokenRevocationStore revocationStore;
+    private final RefreshTokenExchanger refreshTokenExchanger;
 
-    public JwtInvalidationFilter(JwtProvider jwtProvider) {
+    public JwtInvalidationFilter(JwtProvider jwtProvider, AccessTokenRevocationStore revocationStore,
+                                 RefreshTokenExchanger refreshTokenExchanger) {
         this.jwtProvider = jwtProvider;
+        this.revocationStore = revocationStore;
+        this.refreshTokenExchanger = refreshTokenExchanger;
     }
 
     @Override
@@ -30,6 +36,18 @@ public class JwtInvalidationFilter extends OncePerRequestFilter {
         String bearerToken = jwtProvider.resolveToken(request);
 
         if (bearerToken != null) {
+            // 아직 유효한 액세스 토큰은 만료 시각까지 사용할 수 없도록 무효화 목록에 등록
+            Claims claims = jwtProvider.getVerifiedClaims(bearerToken);
+            if (claims != null) {
+                revocationStore.revoke(bearerToken, claims.getExpiration());
+            }
+
+            // 직전에 리프레시로 발급되어 잠시 보관 중인 액세스 토큰도 더 이상 내주지 않도록 제거
+            String subject = claims != null ? claims.getSubject() : jwtProvider.getSubjectFromExpiredToken(bearerToken);
+            if (!subject.isEmpty()) {
+                refreshTokenExchanger.invalidate(subject);
+            }
+
             // 리프레시 토큰 쿠키 삭제
             jwtProvider.removeRefreshTokenCookie(response, bearerToken);
 
@@ -1,14 +1,25 @@
 package com.nrzm.demo.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nrzm.demo.auth.service.AuthUser;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -16,19 +27,41 @@ import javax.crypto.spec.SecretKeySpec;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.nrzm.demo.config.CookieConstants.REFRESH_TOKEN_PREFIX;
 
 @Component
 public class JwtProvider {
+    static final String AUTHORITIES_CLAIM = "auth";
+    static final String PRINCIPAL_TYPE_CLAIM = "ptype";
+    static final String MEMBER_ID_CLAIM = "mid";
+
     @Value("${jwt.secret:your-very-long-secret-key-that-is-at-least-64-bytes-long-0123456789abcdef0123456789abcdef}")
     private String secret;
     @Value("${jwt.expiration:300000}") //5분:300000
     private long expiration;
     @Value("${jwt.expiration:3600000}") //1시간:3600000, 30초:30000
     private long refreshExpiration;
+    @Value("${jwt.cache.max-size:10000}") //검증 완료된 토큰 캐시 최대 건수
+    private long verifiedTokenCacheSize;
+    // true: 액세스 토큰에 권한 정보를 담고, 요청마다 DB 조회 없이 토큰 클레임만으로 인증 (권한 변경은 토큰 갱신 시 반영)
+    @Value("${jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedTokenCache;
+    private Cache<String, String> refreshTokenCookieNames;
+    private Timer verifyTimer;
+
+    private final MeterRegistry meterRegistry;
+
+    public JwtProvider(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @PostConstruct
     protected void init() {
@@ -36,6 +69,45 @@ public class JwtProvider {
             throw new IllegalArgumentException("The secret key length must be at least 64 bytes for HS512 algorithm");
         }
         this.secretKey = new SecretKeySpec(secret.getBytes(), Jwts.SIG.HS512.key().build().getAlgorithm());
+        // 파서는 불변 객체이므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+
+        // 서명 검증이 끝난 토큰의 클레임을 토큰의 만료 시각까지만 보관 (같은 토큰 재요청 시 HMAC 검증 생략)
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // 사용자명별 리프레시 토큰 쿠키명 (요청마다 MD5 를 다시 계산하지 않도록 보관)
+        this.refreshTokenCookieNames = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .build();
+
+        // /actuator/metrics/cache.gets?tag=cache:jwt.verified-tokens 로 적중률 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, "jwt.verified-tokens");
+        // /actuator/metrics/jwt.verify 로 서명 검증 소요 시간 확인
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("JWT 서명 검증 및 클레임 파싱 소요 시간")
+                .register(meterRegistry);
     }
 
     //액세스 토큰
@@ -51,6 +123,65 @@ public class JwtProvider {
                 .compact();
     }
 
+    public String createToken(UserDetails userDetails) {
+        if (!statelessAuthentication) {
+            return createToken(userDetails.getUsername());
+        }
+
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expiration);
+        List<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        return Jwts.builder()
+                .subject(userDetails.getUsername())
+                .claim(AUTHORITIES_CLAIM, authorities)
+                .claim(PRINCIPAL_TYPE_CLAIM, principalTypeOf(userDetails).name())
+                .claim(MEMBER_ID_CLAIM, userDetails instanceof AuthUser authUser ? authUser.getMemberId() : null) // null 이면 생략
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    private AuthUser.PrincipalType principalTypeOf(UserDetails userDetails) {
+        if (userDetails instanceof AuthUser authUser) {
+            return authUser.getPrincipalType();
+        }
+        boolean member = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_MEMBER".equals(authority.getAuthority()));
+        return member ? AuthUser.PrincipalType.MEMBER : AuthUser.PrincipalType.USER;
+    }
+
+    public boolean isStatelessAuthentication() {
+        return statelessAuthentication;
+    }
+
+    /**
+     * 검증된 클레임으로 인증 주체를 구성합니다.
+     * 무상태 인증 모드가 아니거나 권한 클레임이 없는 토큰(모드 전환 이전 발급분),
+     * memberId 클레임이 없는 회원 토큰이면 null 을 반환합니다.
+     */
+    public AuthUser getPrincipalFromClaims(Claims claims) {
+        String principalType = claims.get(PRINCIPAL_TYPE_CLAIM, String.class);
+        if (!statelessAuthentication || principalType == null
+                || !(claims.get(AUTHORITIES_CLAIM) instanceof Collection<?> authorityNames)) {
+            return null;
+        }
+
+        AuthUser.PrincipalType type = AuthUser.PrincipalType.valueOf(principalType);
+        Long memberId = claims.get(MEMBER_ID_CLAIM, Long.class);
+        if (type == AuthUser.PrincipalType.MEMBER && memberId == null) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = authorityNames.stream()
+                .map(name -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(name)))
+                .toList();
+        return new AuthUser(claims.getSubject(), "", authorities, type, memberId);
+    }
+
     public String createRefreshToken(String username) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpiration);
@@ -63,13 +194,34 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 검증하고 클레임을 반환합니다.
+     * 유효하지 않거나 만료된 토큰이면 null 을 반환합니다.
+     */
+    public Claims getVerifiedClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        return verifiedTokenCache.get(token, this::parseClaims);
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            Claims claims = verifyTimer.record(() -> jwtParser.parseSignedClaims(token).getPayload());
+            // 만료 시각이 없는 토큰은 캐시에 보관하지 않음 (발급 정책상 존재하지 않아야 함)
+            return claims.getExpiration() != null ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            // parseSignedClaims 수행 시 인증이 만료된 경우 JwtException 발생함
+            return null;
+        }
+    }
+
     public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        Claims claims = getVerifiedClaims(token);
+        if (claims == null) {
+            throw new JwtException("Invalid or expired token");
+        }
+        return claims.getSubject();
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -81,25 +233,12 @@ public class JwtProvider {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-        } catch (JwtException jwtException) {
-            // parseSignedClaims 수행 시 인증이 만료된 경우 JwtException 발생함
-            return false;
-        }
-
-        return true;
+        return getVerifiedClaims(token) != null;
     }
 
     public String getSubjectFromExpiredToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
         } catch (ExpiredJwtException expiredJwtException) {
             // 토큰이 만료된 경우, 예외 객체에서 클레임 정보를 추출
             Claims claims = expiredJwtException.getClaims();
@@ -113,6 +252,10 @@ public class JwtProvider {
     }
 
     public String createRefreshTokenCookieName(String username) {
+        return refreshTokenCookieNames.get(username, this::digestRefreshTokenCookieName);
+    }
+
+    private String digestRefreshTokenCookieName(String username) {
         String combinedString = username + secret;
 
         try {
@@ -0,0 +1,92 @@
+package com.nrzm.demo.auth.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 시 비밀번호(BCrypt) 검증 전용 실행기.
+ * <p>
+ * 검증은 CPU 를 많이 쓰므로 서블릿 요청 스레드가 아닌 크기가 제한된 별도 스레드 풀에서 수행합니다.
+ * 요청 스레드는 검증이 끝날 때까지 기다리므로, 기본값은 대기열 없이 풀의 스레드가 모두 사용 중이면 즉시 거절(429)합니다.
+ * 로그인 폭주(이벤트, 크리덴셜 스터핑 등) 시에도 로그인을 기다리며 묶이는 요청 스레드가 풀 크기를 넘지 않아 일반 API 요청 처리 스레드를 보호합니다.
+ */
+@Component
+public class LoginExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int retryAfterSeconds;
+    private final Timer authenticateTimer;
+    private final Counter rejectedCounter;
+
+    public LoginExecutor(MeterRegistry meterRegistry,
+                         @Value("${auth.login.threads:0}") int threads, // 0: CPU 코어 수
+                         @Value("${auth.login.queue-capacity:0}") int queueCapacity, // 0: 대기열 없음
+                         @Value("${auth.login.timeout-millis:5000}") long timeoutMillis,
+                         @Value("${auth.login.retry-after-seconds:1}") int retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // executor.queued / executor.active 등 (name=auth.login)
+        new ExecutorServiceMetrics(executor, "auth.login", Tags.empty()).bindTo(meterRegistry);
+        this.authenticateTimer = Timer.builder("auth.login.authenticate")
+                .description("로그인 인증(사용자 조회 + 비밀번호 검증) 소요 시간 (대기 시간 제외)")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("대기열 초과로 거절된 로그인 요청 수")
+                .register(meterRegistry);
+    }
+
+    public Authentication authenticate(Supplier<Authentication> authentication) {
+        Future<Authentication> future;
+        try {
+            future = executor.submit(() -> authenticateTimer.record(authentication));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginThrottledException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // BadCredentialsException 등 인증 실패는 그대로 전달
+            }
+            throw new AuthenticationServiceException("Authentication failed", e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginThrottledException("로그인 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Authentication interrupted", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
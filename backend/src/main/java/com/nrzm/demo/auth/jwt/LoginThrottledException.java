@@ -0,0 +1,17 @@
+package com.nrzm.demo.auth.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인(비밀번호 검증) 대기열이 가득 차 요청을 처리하지 않고 거절한 경우 (429 Too Many Requests)
+ */
+@Getter
+public class LoginThrottledException extends AuthenticationException {
+    private final int retryAfterSeconds;
+
+    public LoginThrottledException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
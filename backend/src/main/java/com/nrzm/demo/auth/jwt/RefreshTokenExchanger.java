@@ -0,0 +1,94 @@
+package com.nrzm.demo.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nrzm.demo.auth.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 리프레시 토큰으로 새 액세스 토큰을 발급합니다.
+ * 액세스 토큰 만료 직후 SPA 가 동시에 보내는 여러 요청이 같은 리프레시 토큰을 제시하면
+ * 최초 한 건만 실제로 발급하고 나머지는 같은 결과(같은 액세스 토큰)를 받습니다.
+ */
+@Component
+public class RefreshTokenExchanger {
+
+    public record Result(String accessToken, UserDetails userDetails) {
+    }
+
+    private record Key(String subject, String refreshToken) {
+    }
+
+    private final JwtProvider jwtProvider;
+    private final CustomUserDetailsService userDetailsService;
+    // 진행 중이거나 방금 끝난 발급 결과 (뒤늦게 도착한 동시 요청도 같은 토큰을 받도록 잠시 보관)
+    private final AsyncCache<Key, Result> inFlight;
+
+    public RefreshTokenExchanger(@Lazy JwtProvider jwtProvider,
+                                 @Lazy CustomUserDetailsService userDetailsService,
+                                 @Value("${jwt.refresh.coalesce-window:10s}") Duration coalesceWindow) {
+        this.jwtProvider = jwtProvider;
+        this.userDetailsService = userDetailsService;
+        this.inFlight = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(coalesceWindow)
+                .buildAsync();
+    }
+
+    /**
+     * @return 새 액세스 토큰과 사용자 정보, 리프레시 토큰이 유효하지 않으면 null
+     */
+    public Result exchange(String subject, String refreshToken) {
+        Key key = new Key(subject, refreshToken);
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        CompletableFuture<Result> existing = inFlight.asMap().putIfAbsent(key, future);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        // 최초 요청 스레드가 직접 발급 (null 또는 예외로 완료되면 캐시에서 자동 제거됨)
+        try {
+            future.complete(issue(refreshToken));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return join(future);
+    }
+
+    /**
+     * 로그아웃 등으로 토큰이 무효화되면 보관 중인 발급 결과를 버려, 같은 리프레시 토큰으로 이전 액세스 토큰을 다시 받지 못하도록 합니다.
+     */
+    public void invalidate(String subject) {
+        inFlight.asMap().keySet().removeIf(key -> key.subject().equals(subject));
+    }
+
+    private Result issue(String refreshToken) {
+        Claims refreshClaims = jwtProvider.getVerifiedClaims(refreshToken);
+        if (refreshClaims == null) {
+            return null;
+        }
+
+        // 토큰 갱신 시점에 사용자 정보를 다시 조회하여 변경된 권한을 새 토큰에 반영
+        UserDetails userDetails = userDetailsService.loadUserByUsername(refreshClaims.getSubject());
+        return new Result(jwtProvider.createToken(userDetails), userDetails);
+    }
+
+    private Result join(CompletableFuture<Result> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -3,8 +3,5 @@ package com.nrzm.demo.auth.repository;
 import com.nrzm.demo.auth.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface RoleRepository extends JpaRepository<Role, Long> {
-    Optional<Role> findByName(String name);
+public interface RoleRepository extends JpaRepository<Role, Long>, RoleRepositoryCustom {
 }
@@ -0,0 +1,9 @@
+package com.nrzm.demo.auth.repository;
+
+import com.nrzm.demo.auth.entity.Role;
+
+import java.util.Optional;
+
+public interface RoleRepositoryCustom {
+    Optional<Role> findByName(String name);
+}
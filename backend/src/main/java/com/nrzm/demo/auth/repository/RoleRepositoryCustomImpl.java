@@ -0,0 +1,22 @@
+package com.nrzm.demo.auth.repository;
+
+import com.nrzm.demo.auth.entity.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+public class RoleRepositoryCustomImpl implements RoleRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 쿼리 파생(JPQL) 대신 natural id 로 조회하여 2차 캐시(natural id -> id -> 엔티티)를 사용
+    @Override
+    public Optional<Role> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Role.class)
+                .loadOptional(name);
+    }
+}
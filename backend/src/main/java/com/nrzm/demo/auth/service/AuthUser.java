@@ -0,0 +1,50 @@
+package com.nrzm.demo.auth.service;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증 주체 정보. 관리자(User) 와 회원(Member) 중 어느 테이블에서 왔는지와,
+ * 회원이면 인증 시점에 확인한 memberId 를 함께 보관합니다.
+ */
+@Getter
+public class AuthUser extends User {
+
+    public enum PrincipalType {
+        USER,
+        MEMBER
+    }
+
+    private final PrincipalType principalType;
+    private final Long memberId;
+
+    public AuthUser(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                    PrincipalType principalType) {
+        this(username, password, authorities, principalType, null);
+    }
+
+    public AuthUser(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                    PrincipalType principalType, Long memberId) {
+        super(username, password, authorities);
+        this.principalType = principalType;
+        this.memberId = memberId;
+    }
+
+    /**
+     * 회원 전용 API 에서 사용. 회원이 아닌 주체이면 UsernameNotFoundException
+     */
+    public Long requireMemberId() {
+        if (memberId == null) {
+            throw new UsernameNotFoundException("존재하지 않는 Member 입니다. " + getUsername());
+        }
+        return memberId;
+    }
+
+    public AuthUser copy() {
+        return new AuthUser(getUsername(), getPassword(), getAuthorities(), principalType, memberId);
+    }
+}
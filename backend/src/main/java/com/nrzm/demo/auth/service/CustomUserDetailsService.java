@@ -14,6 +14,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,22 +29,28 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final MemberRepository memberRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(UserRepository userRepository, MemberRepository memberRepository, RoleRepository roleRepository, @Lazy PasswordEncoder passwordEncoder) {
+    public CustomUserDetailsService(UserRepository userRepository, MemberRepository memberRepository, RoleRepository roleRepository, @Lazy PasswordEncoder passwordEncoder, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
         this.memberRepository = memberRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::findUserDetails);
+    }
+
+    private AuthUser findUserDetails(String username) {
         // 먼저 User(관리자) 테이블에서 검색
         Optional<User> userOptional = userRepository.findByUsername(username);
         if (userOptional.isPresent()) {
@@ -51,7 +58,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             Set<GrantedAuthority> authorities = user.getRoles().stream()
                     .map(role -> new SimpleGrantedAuthority(role.getName()))
                     .collect(Collectors.toSet());
-            return new org.springframework.security.core.userdetails.User(user.getUsername(), user.getPassword(), authorities);
+            return new AuthUser(user.getUsername(), user.getPassword(), authorities, AuthUser.PrincipalType.USER);
         }
 
         // User 테이블에 없으면 Member 테이블에서 검색
@@ -60,14 +67,39 @@ public class CustomUserDetailsService implements UserDetailsService {
             Member member = memberOptional.get();
             Set<GrantedAuthority> authorities = new HashSet<>();
             authorities.add(new SimpleGrantedAuthority("ROLE_MEMBER"));
-            return new org.springframework.security.core.userdetails.User(member.getEmail(), member.getPassword(), authorities);
+            return new AuthUser(member.getEmail(), member.getPassword(), authorities, AuthUser.PrincipalType.MEMBER, member.getMemberId());
         }
 
         throw new UsernameNotFoundException("User not found with username or email: " + username);
     }
 
+    /**
+     * 로그인 성공 후 저장된 비밀번호 해시의 강도가 현재 인코더와 다를 때 DaoAuthenticationProvider 가 호출합니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthUser.PrincipalType principalType = user instanceof AuthUser authUser
+                ? authUser.getPrincipalType() : AuthUser.PrincipalType.USER;
+        Long memberId = user instanceof AuthUser authUser ? authUser.getMemberId() : null;
+
+        if (principalType == AuthUser.PrincipalType.MEMBER) {
+            memberRepository.findByEmail(user.getUsername())
+                    .ifPresent(member -> member.setPassword(newPassword));
+        } else {
+            userRepository.findByUsername(user.getUsername())
+                    .ifPresent(existingUser -> existingUser.setPassword(newPassword));
+        }
+        userDetailsCache.evictAfterCommit(user.getUsername());
+
+        return new AuthUser(user.getUsername(), newPassword, user.getAuthorities(), principalType, memberId);
+    }
+
     public UsernamePasswordAuthenticationToken getAuthenticationToken(String usernameFromToken, HttpServletRequest request) {
-        UserDetails userDetails = this.loadUserByUsername(usernameFromToken);
+        return getAuthenticationToken(this.loadUserByUsername(usernameFromToken), request);
+    }
+
+    public UsernamePasswordAuthenticationToken getAuthenticationToken(UserDetails userDetails, HttpServletRequest request) {
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         return authentication;
@@ -119,12 +151,15 @@ public class CustomUserDetailsService implements UserDetailsService {
         user.setRoles(roles);
 
         // 사용자 저장
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userDetailsCache.evictAfterCommit(savedUser.getUsername());
+        return savedUser;
     }
 
     @Transactional
     public User updateUser(Long id, User userDetails) {
         return userRepository.findById(id).map(user -> {
+            userDetailsCache.evictAfterCommit(user.getUsername(), userDetails.getUsername());
             user.setUsername(userDetails.getUsername());
             user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
             user.setRoles(userDetails.getRoles());
@@ -134,6 +169,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Transactional
     public void deleteUser(Long id) {
+        userRepository.findById(id).ifPresent(user -> userDetailsCache.evictAfterCommit(user.getUsername()));
         userRepository.deleteById(id);
     }
 
@@ -148,6 +184,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             role.getUsers().remove(user);
             userRepository.save(user);
             roleRepository.save(role);
+            userDetailsCache.evictAfterCommit(user.getUsername());
         } else {
             throw new RuntimeException("User does not have the specified role");
         }
@@ -2,6 +2,7 @@ package com.nrzm.demo.auth.service;
 
 import com.nrzm.demo.auth.dto.RoleDTO;
 import com.nrzm.demo.auth.entity.Role;
+import com.nrzm.demo.auth.entity.User;
 import com.nrzm.demo.auth.repository.RoleRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -15,9 +16,11 @@ import java.util.stream.Collectors;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public RoleService(RoleRepository roleRepository) {
+    public RoleService(RoleRepository roleRepository, UserDetailsCache userDetailsCache) {
         this.roleRepository = roleRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Transactional
@@ -34,6 +37,7 @@ public class RoleService {
     public Role updateRole(Long id, Role role) throws Exception {
         Role existingRole = roleRepository.findById(id).orElseThrow(() -> new RuntimeException("Role not found: " + id));
         existingRole.setName(role.getName());
+        evictUsersOf(existingRole);
         return roleRepository.save(existingRole);
     }
 
@@ -42,6 +46,7 @@ public class RoleService {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Role not found with id: " + id));
 
+        evictUsersOf(role);
         try {
             roleRepository.delete(role);
             roleRepository.flush(); // 즉시 DB 반영을 강제합니다.
@@ -50,6 +55,13 @@ public class RoleService {
         }
     }
 
+    // 역할 이름이 바뀌면 해당 역할을 가진 사용자의 권한 정보도 바뀌므로 캐시 무효화
+    private void evictUsersOf(Role role) {
+        if (role.getUsers() != null) {
+            userDetailsCache.evictAfterCommit(role.getUsers().stream().map(User::getUsername).toList());
+        }
+    }
+
     private RoleDTO convertToDTO(Role role) {
         RoleDTO roleDTO = new RoleDTO();
         roleDTO.setId(role.getId());
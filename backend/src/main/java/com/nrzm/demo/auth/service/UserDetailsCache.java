@@ -0,0 +1,60 @@
+package com.nrzm.demo.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nrzm.demo.config.TransactionHooks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * DB 기반 인증 시 loadUserByUsername 조회 결과 캐시.
+ * 사용자/역할/회원 정보를 변경하는 서비스는 커밋 후 해당 사용자명을 무효화해야 합니다.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final boolean enabled;
+    private final Cache<String, AuthUser> cache;
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${auth.user-cache.enabled:true}") boolean enabled,
+                            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+                            @Value("${auth.user-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl) // 무효화 누락(직접 DB 수정 등)에 대비한 최대 보관 시간
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.user-details");
+    }
+
+    public AuthUser get(String username, Function<String, AuthUser> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        // 인증 후 eraseCredentials() 로 비밀번호가 지워지므로 캐시 원본이 아닌 사본을 반환
+        return cache.get(username, loader).copy();
+    }
+
+    public void evictAfterCommit(String... usernames) {
+        evictAfterCommit(Arrays.asList(usernames));
+    }
+
+    public void evictAfterCommit(Collection<String> usernames) {
+        List<String> keys = usernames.stream().filter(Objects::nonNull).toList();
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> cache.invalidateAll(keys));
+    }
+}
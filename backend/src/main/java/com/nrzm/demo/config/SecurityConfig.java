@@ -1,12 +1,19 @@
 package com.nrzm.demo.config;
 
+import com.nrzm.demo.auth.jwt.AccessTokenRevocationStore;
 import com.nrzm.demo.auth.jwt.CustomUsernamePasswordAuthenticationFilter;
 import com.nrzm.demo.auth.jwt.JwtAuthenticationFilter;
 import com.nrzm.demo.auth.jwt.JwtInvalidationFilter;
 import com.nrzm.demo.auth.jwt.JwtProvider;
+import com.nrzm.demo.auth.jwt.RefreshTokenExchanger;
 import com.nrzm.demo.auth.service.CustomUserDetailsService;
+import com.nrzm.demo.config.logging.RequestLogPipeline;
+import com.nrzm.demo.config.logging.RequestLoggingFilter;
+import com.nrzm.demo.config.security.CalibratedBCryptPasswordEncoder;
 import com.nrzm.demo.config.security.CustomAccessDeniedHandler;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +27,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -33,6 +39,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 
 @Configuration
+@Slf4j
 @EnableWebSecurity
 @EnableMethodSecurity(
         prePostEnabled = true, // @PreAuthorize, @PostAuthorize 활성화
@@ -43,15 +50,29 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenExchanger refreshTokenExchanger;
+    private final AccessTokenRevocationStore revocationStore;
 
-    public SecurityConfig(JwtProvider jwtProvider, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(JwtProvider jwtProvider, CustomUserDetailsService userDetailsService,
+                          RefreshTokenExchanger refreshTokenExchanger, AccessTokenRevocationStore revocationStore) {
         this.jwtProvider = jwtProvider;
         this.userDetailsService = userDetailsService;
+        this.refreshTokenExchanger = refreshTokenExchanger;
+        this.revocationStore = revocationStore;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt.strength:0}") int strength, // 0: 기동 시 장비 성능으로 자동 결정
+            @Value("${security.password.bcrypt.target-millis:100}") long targetMillis,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.max-strength:16}") int maxStrength) {
+        if (strength <= 0) {
+            strength = CalibratedBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
+            log.info("BCrypt strength calibrated to {} (target {} ms)", strength, targetMillis);
+        }
+        // 저장된 해시의 강도가 다르면 로그인 성공 시 CustomUserDetailsService.updatePassword 로 재해시
+        return new CalibratedBCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -104,7 +125,8 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http
-            , CustomUsernamePasswordAuthenticationFilter customAuthenticationFilter) throws Exception {
+            , CustomUsernamePasswordAuthenticationFilter customAuthenticationFilter
+            , RequestLogPipeline requestLogPipeline) throws Exception {
         http
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/actuator/**").permitAll()
@@ -122,8 +144,9 @@ public class SecurityConfig {
                         .authenticationEntryPoint(authenticationEntryPoint())   // 401 Unauthorized, 500 Internal Server Error 처리 관련
                 )
                 .addFilterAt(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new JwtInvalidationFilter(jwtProvider), CustomUsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, userDetailsService), JwtInvalidationFilter.class)
+                .addFilterBefore(new JwtInvalidationFilter(jwtProvider, revocationStore, refreshTokenExchanger), CustomUsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, userDetailsService, refreshTokenExchanger, revocationStore), JwtInvalidationFilter.class)
+                .addFilterBefore(new RequestLoggingFilter(requestLogPipeline), JwtAuthenticationFilter.class) // 요청 접근 로그
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화
                 .headers(headers -> headers
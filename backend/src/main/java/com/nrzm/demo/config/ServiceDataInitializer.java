@@ -5,6 +5,7 @@ import com.nrzm.demo.repository.MemberRepository;
 import com.nrzm.demo.repository.OrderRepository;
 import com.nrzm.demo.repository.ProductRepository;
 import com.nrzm.demo.repository.ShoppingLogRepository;
+import com.nrzm.demo.service.OrderNumberGenerator;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,11 +26,16 @@ public class ServiceDataInitializer {
                                       MemberRepository memberRepository,
                                       OrderRepository orderRepository,
                                       ShoppingLogRepository shoppingLogRepository,
-                                      PasswordEncoder passwordEncoder) {
+                                      PasswordEncoder passwordEncoder,
+                                      OrderNumberGenerator orderNumberGenerator) {
         return args -> {
+            // 이미 적재된 DB 면 건너뜀 (같은 메모리 DB 에 컨텍스트가 다시 뜨는 경우 등, 회원 이메일 unique 위반 방지)
+            if (memberRepository.count() > 0) {
+                return;
+            }
             initProducts(productRepository);
             initMembers(memberRepository, passwordEncoder);
-            initOrders(orderRepository, memberRepository, productRepository);
+            initOrders(orderRepository, memberRepository, productRepository, orderNumberGenerator);
             initShoppingLogs(shoppingLogRepository, memberRepository);
         };
     }
@@ -83,13 +89,14 @@ public class ServiceDataInitializer {
         return member;
     }
 
-    private void initOrders(OrderRepository orderRepository, MemberRepository memberRepository, ProductRepository productRepository) {
+    private void initOrders(OrderRepository orderRepository, MemberRepository memberRepository, ProductRepository productRepository,
+                            OrderNumberGenerator orderNumberGenerator) {
         Member member = memberRepository.findAll().get(0);
         Product product = productRepository.findAll().get(0);
 
         Order order = new Order();
         order.setMember(member);
-        order.setOrderNumber("1");
+        order.setOrderNumber(orderNumberGenerator.nextOrderNumber());
         order.setOrderDate(LocalDateTime.now());
         order.setTotalAmount(product.getPrice());
         order.setStatus(Order.OrderStatus.SHIPPED);
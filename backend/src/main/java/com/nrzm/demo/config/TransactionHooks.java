@@ -0,0 +1,47 @@
+package com.nrzm.demo.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업을 실행합니다. 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+     * (캐시 무효화처럼 롤백 시 수행되면 안 되고, 커밋 전에 수행하면 이전 값이 다시 적재될 수 있는 작업용)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백된 뒤 작업을 실행합니다. 트랜잭션 밖에서 호출되면 아무것도 하지 않습니다.
+     * (롤백된 작업이 잡아 둔 메모리 자원을 만료 전에 바로 돌려주는 용도, 완료 상태를 알 수 없는 경우에는 실행하지 않음)
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.nrzm.demo.config.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 로그 전달 경로. 요청 스레드는 링 버퍼에 기록만 하고, 별도 스레드가 버퍼를 비우며 ACCESS_LOG 로거에 출력합니다.
+ * 버퍼가 가득 차면 요청 스레드를 지연시키지 않도록 기록을 버리고 request.log.dropped 로 집계합니다.
+ */
+@Component
+@Slf4j
+public class RequestLogPipeline implements InitializingBean, DisposableBean {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private final boolean enabled;
+    private final RequestLogRingBuffer buffer;
+    private final Counter droppedCounter;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile boolean writerIdle; // 출력 스레드가 빈 버퍼에서 대기 중(또는 대기하려는 중)
+
+    public RequestLogPipeline(MeterRegistry meterRegistry,
+                              @Value("${request-log.enabled:true}") boolean enabled,
+                              @Value("${request-log.buffer-size:8192}") int bufferSize) {
+        this.enabled = enabled;
+        this.buffer = new RequestLogRingBuffer(bufferSize);
+        this.droppedCounter = Counter.builder("request.log.dropped")
+                .description("버퍼 초과로 버려진 요청 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("request.log.buffered", buffer, RequestLogRingBuffer::size)
+                .description("출력 대기 중인 요청 로그 수")
+                .register(meterRegistry);
+        this.writer = new Thread(this::drain, "request-log-writer");
+        this.writer.setDaemon(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void offer(RequestLogRecord record) {
+        if (!buffer.offer(record)) {
+            droppedCounter.increment();
+            return;
+        }
+        // 비어 있던 버퍼라 출력 스레드가 대기 중이면 깨움 (기록이 계속 들어오는 동안은 unpark 하지 않음)
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (enabled) {
+            writer.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        while (running) {
+            RequestLogRecord record = buffer.poll();
+            if (record == null) {
+                // 대기 표시 후 버퍼를 다시 확인해야, 그 사이 기록한 요청 스레드의 unpark 를 놓치지 않음
+                writerIdle = true;
+                if (buffer.size() == 0 && running) {
+                    LockSupport.park(this);
+                }
+                writerIdle = false;
+                continue;
+            }
+            write(record, line);
+        }
+
+        // 종료 시 남은 기록 출력
+        RequestLogRecord record;
+        while ((record = buffer.poll()) != null) {
+            write(record, line);
+        }
+    }
+
+    private void write(RequestLogRecord record, StringBuilder line) {
+        try {
+            line.setLength(0);
+            line.append("{\"ts\":\"").append(Instant.ofEpochMilli(record.timestampMillis()))
+                    .append("\",\"method\":\"").append(record.method())
+                    .append("\",\"route\":\"");
+            appendEscaped(line, record.route());
+            line.append("\",\"status\":").append(record.status())
+                    .append(",\"principal\":");
+            if (record.principal() == null) {
+                line.append("null");
+            } else {
+                line.append('"');
+                appendEscaped(line, record.principal());
+                line.append('"');
+            }
+            line.append(",\"latencyMicros\":").append(record.latencyMicros())
+                    .append(",\"sqlCount\":").append(record.sqlCount())
+                    .append('}');
+            ACCESS_LOG.info(line.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to write request log", e);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder line, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.nrzm.demo.config.logging;
+
+public record RequestLogRecord(long timestampMillis,
+                               String method,
+                               String route,
+                               int status,
+                               String principal,
+                               long latencyMicros,
+                               int sqlCount) {
+}
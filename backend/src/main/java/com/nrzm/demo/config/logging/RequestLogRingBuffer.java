@@ -0,0 +1,55 @@
+package com.nrzm.demo.config.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자 / 단일 소비자).
+ * 가득 찬 경우 offer 는 대기하지 않고 false 를 반환합니다.
+ */
+class RequestLogRingBuffer {
+
+    private final AtomicReferenceArray<RequestLogRecord> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 기록할 위치 (생산자들이 CAS 로 선점)
+    private volatile long head;                       // 다음에 읽을 위치 (소비자 스레드만 갱신)
+
+    RequestLogRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    boolean offer(RequestLogRecord record) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.lazySet((int) position & mask, record);
+        return true;
+    }
+
+    /**
+     * @return 다음 기록, 비어 있거나 선점된 위치에 아직 기록이 게시되지 않았으면 null
+     */
+    RequestLogRecord poll() {
+        long position = head;
+        int index = (int) position & mask;
+        RequestLogRecord record = slots.get(index);
+        if (record == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head = position + 1;
+        return record;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
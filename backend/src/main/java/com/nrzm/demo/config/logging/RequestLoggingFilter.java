@@ -0,0 +1,52 @@
+package com.nrzm.demo.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 구조화된 접근 로그 한 건(메서드, 라우트, 상태, 인증 주체, 지연 시간, SQL 수)을 남깁니다.
+ * 시큐리티 필터 체인 안(JWT 인증 필터 앞)에 두어 응답 후에도 인증 주체를 확인할 수 있습니다.
+ */
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private final RequestLogPipeline pipeline;
+
+    public RequestLoggingFilter(RequestLogPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !pipeline.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int sqlCount = SqlStatementCounter.stop();
+            long latencyMicros = (System.nanoTime() - startNanos) / 1000;
+
+            // 컨트롤러 매핑 패턴(/admin/orders/{id}) 기준으로 기록, 매핑 전에 응답된 경우 요청 URI
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : request.getRequestURI();
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            pipeline.offer(new RequestLogRecord(System.currentTimeMillis(), request.getMethod(), route,
+                    response.getStatus(), authentication != null ? authentication.getName() : null,
+                    latencyMicros, sqlCount));
+        }
+    }
+}
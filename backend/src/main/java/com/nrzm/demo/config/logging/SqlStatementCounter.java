@@ -0,0 +1,34 @@
+package com.nrzm.demo.config.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate 가 실행한 SQL 문 수를 셉니다.
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * @return start() 이후 실행된 SQL 문 수 (start() 없이 호출하면 0)
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,62 @@
+package com.nrzm.demo.config.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * 실행 중인 장비에서 측정한 해시 시간으로 BCrypt 강도(cost)를 정하는 인코더.
+ * 저장된 해시의 강도가 현재 강도보다 낮으면 upgradeEncoding 이 true 를 반환하여,
+ * 로그인 성공 시 DaoAuthenticationProvider 가 UserDetailsPasswordService 로 새 해시를 저장하도록 합니다.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // $2a$10$... 형식에서 강도 부분 추출
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+            return false;
+        }
+        try {
+            // 더 낮게 측정된 장비가 강한 해시를 약하게 다시 저장하지 않도록 낮을 때만 갱신
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 해시 1회 소요 시간이 목표 시간을 넘지 않는 가장 높은 강도를 찾습니다.
+     * 강도가 1 오를 때마다 소요 시간이 두 배가 되므로 최소 강도에서 한 번 측정한 값으로 계산합니다.
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(4).encode(CALIBRATION_PASSWORD);
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long[] samples = new long[3];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double measuredMillis = Math.max(samples[1] / 1_000_000.0, 0.001); // 중앙값
+
+        int extra = (int) Math.floor(Math.log(targetMillis / measuredMillis) / Math.log(2));
+        return Math.max(minStrength, Math.min(maxStrength, minStrength + extra));
+    }
+}
@@ -0,0 +1,84 @@
+package com.nrzm.demo.controller;
+
+import com.nrzm.demo.dto.OrderReport;
+import com.nrzm.demo.dto.SalesRollupRow;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.service.OrderReportEngine;
+import com.nrzm.demo.service.SalesRollupStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+public class AnalyticsController {
+
+    @Autowired
+    private SalesRollupStore salesRollupStore;
+    @Autowired
+    private OrderReportEngine orderReportEngine;
+
+    /**
+     * 판매 집계 조회 (주문 테이블을 읽지 않음). 예: /admin/analytics?from=2024-07-01&to=2024-07-31&groupBy=DAY,STATUS
+     * from/to 는 주문일 기준 (둘 다 포함), 생략하면 제한 없음
+     */
+    @GetMapping("/admin/analytics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SalesRollupRow> getSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") List<SalesRollupStore.Dimension> groupBy,
+            @RequestParam(required = false) Order.OrderStatus status,
+            @RequestParam(required = false) Long productId) {
+        EnumSet<SalesRollupStore.Dimension> dimensions = EnumSet.noneOf(SalesRollupStore.Dimension.class);
+        dimensions.addAll(groupBy);
+        return salesRollupStore.query(from, to, dimensions, status, productId);
+    }
+
+    // 주문 테이블에서 집계를 다시 계산 (직접 DB 수정 후 등)
+    @PostMapping("/admin/analytics/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        int orders = salesRollupStore.rebuild();
+        if (orders < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build(); // 이미 재계산 중
+        }
+        return ResponseEntity.ok(Map.of("orders", orders));
+    }
+
+    /**
+     * 주문 리포트 (주기적으로 갱신되는 스냅샷 기준). 예: /admin/reports/orders?groupBy=CATEGORY,REGION&status=DELIVERED
+     * from/to 는 주문일 기준 (둘 다 포함), 생략하면 제한 없음
+     */
+    @GetMapping("/admin/reports/orders")
+    @PreAuthorize("hasRole('ADMIN')")
+    public OrderReport getOrderReport(
+            @RequestParam(defaultValue = "STATUS") List<OrderReportEngine.Dimension> groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Order.OrderStatus> status,
+            @RequestParam(required = false) Integer categoryId,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) String region) {
+        EnumSet<OrderReportEngine.Dimension> dimensions = EnumSet.noneOf(OrderReportEngine.Dimension.class);
+        dimensions.addAll(groupBy);
+        Set<Order.OrderStatus> statuses = status != null && !status.isEmpty() ? EnumSet.copyOf(status) : null;
+        return orderReportEngine.query(dimensions, new OrderReportEngine.Filter(from, to, statuses, categoryId, productId, region));
+    }
+
+    // 스냅샷 즉시 갱신 (full=true 이면 전체 재적재)
+    @PostMapping("/admin/reports/orders/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> refreshOrderReport(@RequestParam(defaultValue = "false") boolean full) {
+        orderReportEngine.refresh(full);
+        return ResponseEntity.ok().build();
+    }
+}
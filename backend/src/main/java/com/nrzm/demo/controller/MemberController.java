@@ -1,6 +1,9 @@
 package com.nrzm.demo.controller;
 
+import com.nrzm.demo.auth.service.AuthUser;
 import com.nrzm.demo.dto.MemberDTO;
+import com.nrzm.demo.dto.MemberPatch;
+import com.nrzm.demo.dto.PatchResult;
 import com.nrzm.demo.service.MemberService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,8 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -59,14 +61,25 @@ public class MemberController {
         }
     }
 
+    // 보낸 필드만 변경 (조회 없이 UPDATE 한 번, version 불일치 시 409)
+    @PatchMapping("/admin/members/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PatchResult> patchMember(@PathVariable Long id, @RequestBody MemberPatch patch) {
+        try {
+            return ResponseEntity.ok(memberService.patchMember(id, patch));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/api/member")
     @PreAuthorize("hasRole('MEMBER')")
-    public ResponseEntity<MemberDTO> getMemberInfo() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
+    public ResponseEntity<MemberDTO> getMemberInfo(@AuthenticationPrincipal AuthUser authUser) {
         try {
-            MemberDTO memberDTO = memberService.getMemberDTOByUsername(username);
+            // 인증 시 확인된 memberId 로 기본키 조회
+            MemberDTO memberDTO = memberService.getMemberDTOById(authUser.requireMemberId());
             memberDTO.setPassword(null); // 비밀번호와 같은 민감한 정보는 제거
             return ResponseEntity.ok(memberDTO);
         } catch (RuntimeException e) {
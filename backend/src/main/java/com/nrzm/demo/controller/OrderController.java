@@ -1,23 +1,30 @@
 package com.nrzm.demo.controller;
 
+import com.nrzm.demo.auth.service.AuthUser;
+import com.nrzm.demo.dto.CursorPage;
 import com.nrzm.demo.dto.OrderDTO;
-import com.nrzm.demo.dto.OrderItemDTO;
-import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.dto.OrderPatch;
+import com.nrzm.demo.dto.PatchResult;
+import com.nrzm.demo.dto.PlaceOrderRequest;
 import com.nrzm.demo.entity.Order;
-import com.nrzm.demo.entity.OrderItem;
-import com.nrzm.demo.service.MemberService;
+import com.nrzm.demo.service.InvalidSortException;
+import com.nrzm.demo.service.OrderExportService;
+import com.nrzm.demo.service.OrderPlacementService;
 import com.nrzm.demo.service.OrderService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
 
 @RestController
 public class OrderController {
@@ -25,7 +32,13 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
     @Autowired
-    private MemberService memberService;
+    private OrderExportService orderExportService;
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+
+    // 인덱스로 정렬할 수 있는 필드만 허용 (orderDate: idx_orders_date / idx_orders_member_date,
+    // totalAmount: idx_orders_total_amount, orderId: PK, orderNumber: unique)
+    private static final Set<String> SORTABLE_FIELDS = Set.of("orderDate", "totalAmount", "orderId", "orderNumber");
 
     @GetMapping("/admin/orders")
     @PreAuthorize("hasRole('ADMIN')")
@@ -34,15 +47,42 @@ public class OrderController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "orderDate") String sort) {
 
-        Sort.Direction direction = Sort.Direction.DESC; // 기본값으로 내림차순 정렬
-        String[] sortParams = sort.split(",");
-        if (sortParams.length > 1) {
-            direction = sortParams[1].equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
-        }
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+        return orderService.getAllOrders(pageable);
+    }
+
+    // 커서 기반 목록 (orderDate, orderId 내림차순, 전체 건수 없음)
+    @GetMapping("/admin/orders/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<OrderDTO> getAllOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return orderService.getOrdersAfter(cursor, CursorPage.clampSize(size));
+    }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
-        Page<Order> ordersPage = orderService.getAllOrders(pageable);
-        return convertToOrderDTOPage(ordersPage);
+    /**
+     * 주문 내보내기 (주문상품 포함). 조회 결과를 응답 스트림에 바로 기록합니다.
+     * from/to 는 주문일 기준 (둘 다 포함), 생략하면 제한 없음
+     */
+    @GetMapping("/admin/orders/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Order.OrderStatus status,
+            HttpServletResponse response) throws IOException {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        response.setContentType(ndjson ? "application/x-ndjson" : "text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + (ndjson ? "ndjson" : "csv") + "\"");
+
+        orderExportService.export(
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                status,
+                ndjson ? OrderExportService.Format.NDJSON : OrderExportService.Format.CSV,
+                response.getOutputStream());
     }
 
     @GetMapping("/admin/orders/{id}")
@@ -75,6 +115,19 @@ public class OrderController {
         return ResponseEntity.ok(updatedOrder);
     }
 
+    // 보낸 필드만 변경 (조회 없이 UPDATE 한 번, version 불일치 시 409)
+    @PatchMapping("/admin/orders/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PatchResult> patchOrder(@PathVariable Long id, @RequestBody OrderPatch patch) {
+        try {
+            return ResponseEntity.ok(orderService.patchOrder(id, patch));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/admin/orders/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
@@ -86,66 +139,60 @@ public class OrderController {
         return ResponseEntity.ok().build();
     }
 
-    private Page<OrderDTO> convertToOrderDTOPage(Page<Order> ordersPage) {
-        List<OrderDTO> orderDTOs = ordersPage.getContent().stream()
-                .map(this::convertToOrderDTO)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(orderDTOs, ordersPage.getPageable(), ordersPage.getTotalElements());
-    }
-
-    private OrderDTO convertToOrderDTO(Order order) {
-        OrderDTO dto = new OrderDTO();
-        dto.setId(order.getOrderId());
-        dto.setOrderNumber(order.getOrderNumber());
-        dto.setOrderDate(order.getOrderDate());
-        dto.setUsername(order.getMember().getUsername());
-        dto.setStatus(order.getStatus());
-        dto.setTotalAmount(order.getTotalAmount());
-        dto.setStatusKo(order.getStatus().getDescription());
-
-        List<OrderItemDTO> itemDTOs = order.getOrderItems().stream()
-                .map(this::convertToOrderItemDTO)
-                .collect(Collectors.toList());
+    @GetMapping("/api/orders")
+    @PreAuthorize("hasRole('MEMBER')")
+    public Page<OrderDTO> getAllOrdersByMemberId(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "orderDate") String sort,
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        dto.setOrderItems(itemDTOs);
+        // 인증 시 확인된 memberId 사용 (회원 재조회 없음)
+        Long memberId = authUser.requireMemberId();
 
-        return dto;
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+        return orderService.getAllOrdersByMember(memberId, pageable);
     }
 
-    private OrderItemDTO convertToOrderItemDTO(OrderItem item) {
-        OrderItemDTO itemDTO = new OrderItemDTO();
-        itemDTO.setId(item.getOrderItemId());
-        itemDTO.setProductName(item.getProduct().getName());
-        itemDTO.setQuantity(item.getQuantity());
-        itemDTO.setPrice(item.getPrice());
-        return itemDTO;
+    // 회원 주문 생성: (상품 id, 수량) 목록을 받아 서버에서 가격 계산 및 재고 차감
+    @PostMapping("/api/orders")
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResponseEntity<OrderDTO> placeOrder(@RequestBody PlaceOrderRequest request,
+                                               @AuthenticationPrincipal AuthUser authUser) {
+        OrderDTO order = orderPlacementService.placeOrder(authUser.requireMemberId(), request);
+        return ResponseEntity.ok(order);
     }
 
-    @GetMapping("/api/orders")
+    @GetMapping("/api/orders/cursor")
     @PreAuthorize("hasRole('MEMBER')")
-    public Page<OrderDTO> getAllOrdersByMemberId(
-            @RequestParam(defaultValue = "0") int page,
+    public CursorPage<OrderDTO> getAllOrdersByMemberIdAndCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "orderDate") String sort) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        // 인증 시 확인된 memberId 사용 (회원 재조회 없음)
+        Long memberId = authUser.requireMemberId();
 
-        Member member = memberService.getMemberByUsername(username);
+        return orderService.getOrdersByMemberAfter(memberId, cursor, CursorPage.clampSize(size));
+    }
 
-        if (member == null) {
-            throw new UsernameNotFoundException("존재하지 않는 Member 입니다. " + username);
+    /**
+     * "필드[,asc|desc]" 형식의 정렬 조건 (기본 내림차순).
+     * orderDate, totalAmount 는 값이 같은 주문의 순서가 페이지마다 달라지지 않도록 orderId 를 함께 정렬합니다(인덱스 두 번째 컬럼).
+     *
+     * @throws InvalidSortException 인덱스가 없는 필드인 경우
+     */
+    private static Sort parseSort(String sort) {
+        String[] sortParams = sort.split(",");
+        String field = sortParams[0].trim();
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new InvalidSortException("정렬할 수 없는 필드입니다: " + field + " (허용: orderDate, totalAmount, orderId, orderNumber)");
         }
-
         Sort.Direction direction = Sort.Direction.DESC; // 기본값으로 내림차순 정렬
-        String[] sortParams = sort.split(",");
         if (sortParams.length > 1) {
-            direction = sortParams[1].equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+            direction = sortParams[1].trim().equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         }
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
-        Page<Order> ordersPage = orderService.getAllOrdersByMember(member, pageable);
-        return convertToOrderDTOPage(ordersPage);
+        Sort result = Sort.by(direction, field);
+        return field.equals("orderDate") || field.equals("totalAmount") ? result.and(Sort.by(direction, "orderId")) : result;
     }
-}
\ No newline at end of file
+}
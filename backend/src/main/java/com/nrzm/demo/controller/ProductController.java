@@ -1,19 +1,42 @@
 package com.nrzm.demo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nrzm.demo.dto.PatchResult;
+import com.nrzm.demo.dto.ProductImportSummary;
+import com.nrzm.demo.dto.ProductPatch;
 import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.service.ProductImportService;
 import com.nrzm.demo.service.ProductService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 public class ProductController {
 
     @Autowired
     private ProductService productService;
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String NDJSON = "application/x-ndjson";
 
     @GetMapping("/admin/products")
     @PreAuthorize("hasRole('ADMIN')")
@@ -36,6 +59,40 @@ public class ProductController {
         return ResponseEntity.ok(savedProduct);
     }
 
+    /**
+     * 상품 일괄 등록. 요청 본문(text/csv 또는 application/x-ndjson)을 스트림으로 읽으며,
+     * 배치마다 진행 결과 한 줄과 마지막에 요약 한 줄을 NDJSON 으로 응답합니다.
+     * CSV 첫 줄은 헤더 name,description,price,stockQuantity,categoryId
+     */
+    @PostMapping(value = "/admin/products/import", consumes = {"text/csv", NDJSON})
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importProducts(
+            @RequestParam(defaultValue = "500") int batchSize,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ProductImportService.Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(NDJSON))
+                ? ProductImportService.Format.NDJSON : ProductImportService.Format.CSV;
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        ProductImportSummary summary = productImportService.importProducts(reader, format, batchSize, batch -> {
+            try {
+                writer.write(objectMapper.writeValueAsString(batch));
+                writer.write('\n');
+                writer.flush(); // 배치마다 클라이언트로 전송
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.write(objectMapper.writeValueAsString(summary));
+        writer.write('\n');
+        writer.flush();
+    }
+
     @PutMapping("/admin/products/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
@@ -48,6 +105,19 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    // 보낸 필드만 변경 (조회 없이 UPDATE 한 번, version 불일치 시 409)
+    @PatchMapping("/admin/products/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PatchResult> patchProduct(@PathVariable Long id, @RequestBody ProductPatch patch) {
+        try {
+            return ResponseEntity.ok(productService.patchProduct(id, patch));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/admin/products/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
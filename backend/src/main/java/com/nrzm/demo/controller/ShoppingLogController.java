@@ -1,6 +1,7 @@
 package com.nrzm.demo.controller;
 
-import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.auth.service.AuthUser;
+import com.nrzm.demo.dto.CursorPage;
 import com.nrzm.demo.entity.ShoppingLog;
 import com.nrzm.demo.service.MemberService;
 import com.nrzm.demo.service.ShoppingLogService;
@@ -9,10 +10,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
-
 @RestController
 @RequestMapping("/shopping-logs")
 public class ShoppingLogController {
@@ -32,6 +32,15 @@ public class ShoppingLogController {
         return shoppingLogService.getAllShoppingLogs(PageRequest.of(page, size));
     }
 
+    // 관리자: 모든 쇼핑 로그 커서 기반 조회 (createdAt, id 내림차순, 전체 건수 없음)
+    @GetMapping("/admin/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<ShoppingLog> getAllShoppingLogsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return shoppingLogService.getAllShoppingLogsAfter(cursor, CursorPage.clampSize(size));
+    }
+
     // 관리자: 쇼핑 로그 삭제
     @DeleteMapping("/admin/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -44,21 +53,28 @@ public class ShoppingLogController {
     @GetMapping("/api/member")
     @PreAuthorize("hasRole('MEMBER')")
     public Page<ShoppingLog> getMemberShoppingLogs(
-            Principal principal,
+            @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        String username = principal.getName();
-        Member member = memberService.getMemberByUsername(username);
-        return shoppingLogService.getShoppingLogsByMember(member, PageRequest.of(page, size));
+        // 인증 시 확인된 memberId 로 조회 (회원 재조회 없음)
+        return shoppingLogService.getShoppingLogsByMember(authUser.requireMemberId(), PageRequest.of(page, size));
+    }
+
+    // 일반 회원: 자신의 쇼핑 로그 커서 기반 조회
+    @GetMapping("/api/member/cursor")
+    @PreAuthorize("hasRole('MEMBER')")
+    public CursorPage<ShoppingLog> getMemberShoppingLogsByCursor(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return shoppingLogService.getShoppingLogsByMemberAfter(authUser.requireMemberId(), cursor, CursorPage.clampSize(size));
     }
 
     // 일반 회원: 쇼핑 로그 등록
     @PostMapping("/api/member")
     @PreAuthorize("hasRole('MEMBER')")
-    public ResponseEntity<ShoppingLog> createShoppingLog(@RequestBody ShoppingLog shoppingLog, Principal principal) {
-        String username = principal.getName();
-        Member member = memberService.getMemberByUsername(username);
-        shoppingLog.setMember(member);
+    public ResponseEntity<ShoppingLog> createShoppingLog(@RequestBody ShoppingLog shoppingLog, @AuthenticationPrincipal AuthUser authUser) {
+        shoppingLog.setMember(memberService.getMemberById(authUser.requireMemberId()));
         ShoppingLog savedLog = shoppingLogService.saveShoppingLog(shoppingLog);
         return ResponseEntity.ok(savedLog);
     }
@@ -66,17 +82,17 @@ public class ShoppingLogController {
     // 일반 회원: 쇼핑 로그 수정
     @PutMapping("/api/member/{id}")
     @PreAuthorize("hasRole('MEMBER')")
-    public ResponseEntity<ShoppingLog> updateShoppingLog(@PathVariable Long id, @RequestBody ShoppingLog shoppingLog, Principal principal) {
-        String username = principal.getName();
-        Member member = memberService.getMemberByUsername(username);
-        ShoppingLog existingLog = shoppingLogService.getShoppingLogById(id);
+    public ResponseEntity<ShoppingLog> updateShoppingLog(@PathVariable Long id, @RequestBody ShoppingLog shoppingLog, @AuthenticationPrincipal AuthUser authUser) {
+        Long memberId = authUser.requireMemberId();
+        ShoppingLog existingLog = shoppingLogService.getShoppingLogById(id); // 작성 회원도 함께 로딩됨
         
-        if (existingLog == null || !existingLog.getMember().equals(member)) {
+        if (existingLog == null || existingLog.getMember() == null || !memberId.equals(existingLog.getMember().getMemberId())) {
             return ResponseEntity.notFound().build();
         }
         
         shoppingLog.setId(id);
-        shoppingLog.setMember(member);
+        shoppingLog.setMember(existingLog.getMember());
+        shoppingLog.setCreatedAt(existingLog.getCreatedAt()); // 등록 시각(커서 목록의 정렬 키) 유지
         ShoppingLog updatedLog = shoppingLogService.saveShoppingLog(shoppingLog);
         return ResponseEntity.ok(updatedLog);
     }
@@ -0,0 +1,18 @@
+package com.nrzm.demo.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답. 전체 건수를 세지 않으며, nextCursor 를 다음 요청의 cursor 로 전달합니다.
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 로 제한합니다.
+     */
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+}
@@ -11,4 +11,5 @@ public class MemberDTO {
     private String phoneNumber;
     private String address;
     private Boolean isDeleted;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.nrzm.demo.dto;
+
+/**
+ * 회원 부분 수정 요청. version 은 필수이며 null 인 필드는 변경하지 않습니다.
+ */
+public record MemberPatch(Long version,
+                          String username,
+                          String email,
+                          String phoneNumber,
+                          String address,
+                          Boolean isDeleted) {
+}
@@ -17,4 +17,5 @@ public class OrderDTO {
     private BigDecimal totalAmount;
     private OrderStatus status;
     private String statusKo;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기용 평탄화 행 (주문상품 1건당 1행, 주문상품이 없는 주문은 item 컬럼이 null 인 1행)
+ */
+public record OrderExportRow(Long orderId,
+                             String orderNumber,
+                             String username,
+                             LocalDateTime orderDate,
+                             BigDecimal totalAmount,
+                             OrderStatus status,
+                             Long orderItemId,
+                             Long productId,
+                             String productName,
+                             Integer quantity,
+                             BigDecimal price) {
+}
@@ -0,0 +1,14 @@
+package com.nrzm.demo.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 목록 조회용 주문상품 프로젝션 (주문상품 + 상품명)
+ */
+public record OrderItemSummary(Long orderId,
+                               Long orderItemId,
+                               Long productId,
+                               String productName,
+                               Integer quantity,
+                               BigDecimal price) {
+}
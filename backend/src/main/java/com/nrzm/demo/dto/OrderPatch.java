@@ -0,0 +1,10 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+/**
+ * 주문 부분 수정 요청. version 은 필수이며 null 인 필드는 변경하지 않습니다.
+ */
+public record OrderPatch(Long version,
+                         OrderStatus status) {
+}
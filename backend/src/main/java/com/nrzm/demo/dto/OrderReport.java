@@ -0,0 +1,16 @@
+package com.nrzm.demo.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 리포트 응답. 결과는 snapshotAt 시점의 스냅샷 기준입니다.
+ *
+ * @param highWaterOrderId 스냅샷에 적재된 가장 큰 주문 id
+ * @param snapshotRows     스냅샷의 유효 주문상품 행 수
+ */
+public record OrderReport(LocalDateTime snapshotAt,
+                          Long highWaterOrderId,
+                          long snapshotRows,
+                          List<OrderReportRow> rows) {
+}
@@ -0,0 +1,23 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 주문 리포트 결과 행. 묶지 않은 기준은 null 입니다.
+ * orders 는 해당 그룹의 주문상품이 있는 주문 수, items 는 주문상품 건수, amount 는 주문상품 금액(가격 x 수량) 합계입니다.
+ */
+public record OrderReportRow(LocalDate day,
+                             YearMonth month,
+                             OrderStatus status,
+                             Integer categoryId,
+                             Long productId,
+                             String region,
+                             long orders,
+                             long items,
+                             long quantity,
+                             BigDecimal amount) {
+}
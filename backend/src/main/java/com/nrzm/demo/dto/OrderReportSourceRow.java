@@ -0,0 +1,19 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 리포트 스냅샷 적재용 프로젝션 (주문상품 1건당 1행, 회원 주소 + 상품 분류 포함)
+ */
+public record OrderReportSourceRow(Long orderId,
+                                   LocalDateTime orderDate,
+                                   OrderStatus status,
+                                   String memberAddress,
+                                   Long productId,
+                                   Integer categoryId,
+                                   Integer quantity,
+                                   BigDecimal price) {
+}
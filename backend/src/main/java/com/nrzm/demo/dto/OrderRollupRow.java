@@ -0,0 +1,18 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 판매 집계 재계산용 프로젝션 (주문상품 1건당 1행, 주문상품이 없는 주문은 item 컬럼이 null 인 1행)
+ */
+public record OrderRollupRow(Long orderId,
+                             LocalDateTime orderDate,
+                             OrderStatus status,
+                             BigDecimal totalAmount,
+                             Long productId,
+                             Integer quantity,
+                             BigDecimal price) {
+}
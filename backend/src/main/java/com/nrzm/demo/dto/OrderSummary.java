@@ -0,0 +1,18 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 프로젝션 (주문 + 회원명)
+ */
+public record OrderSummary(Long orderId,
+                           String orderNumber,
+                           String username,
+                           LocalDateTime orderDate,
+                           BigDecimal totalAmount,
+                           OrderStatus status,
+                           Long version) {
+}
@@ -0,0 +1,44 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.service.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 정렬 키(시각, id)의 마지막 위치. 클라이언트에는 base64url 문자열(불투명 토큰)로만 노출합니다.
+ */
+public record PageCursor(LocalDateTime timestamp, Long id) {
+
+    /**
+     * @throws IllegalArgumentException 정렬 키가 null 인 경우 (null 행은 "키 < 커서" 조건으로 이어서 조회할 수 없음)
+     */
+    public PageCursor {
+        if (timestamp == null || id == null) {
+            throw new IllegalArgumentException("정렬 키가 null 인 행으로는 커서를 만들 수 없습니다: " + timestamp + "|" + id);
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서, 빈 값이면 null (첫 페이지)
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.nrzm.demo.dto;
+
+/**
+ * 부분 수정(PATCH) 결과. 이후 수정 요청에는 반환된 version 을 보내야 합니다.
+ */
+public record PatchResult(Long id, Long version) {
+}
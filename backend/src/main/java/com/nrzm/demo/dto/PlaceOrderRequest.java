@@ -0,0 +1,12 @@
+package com.nrzm.demo.dto;
+
+import java.util.List;
+
+/**
+ * 주문 생성 요청. 가격/합계는 서버에서 상품 정보로 계산합니다.
+ */
+public record PlaceOrderRequest(List<Line> lines) {
+
+    public record Line(Long productId, int quantity) {
+    }
+}
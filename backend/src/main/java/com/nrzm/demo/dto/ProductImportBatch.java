@@ -0,0 +1,18 @@
+package com.nrzm.demo.dto;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 배치별 진행 결과 (NDJSON 한 줄)
+ *
+ * @param errors 검증/저장 오류 (배치당 최대 건수까지만 포함, 전체 건수는 rejected)
+ */
+public record ProductImportBatch(int batch,
+                                 long lastLine,
+                                 int imported,
+                                 int rejected,
+                                 List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
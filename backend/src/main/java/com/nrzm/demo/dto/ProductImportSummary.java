@@ -0,0 +1,12 @@
+package com.nrzm.demo.dto;
+
+/**
+ * 상품 일괄 등록 최종 결과 (NDJSON 마지막 줄)
+ */
+public record ProductImportSummary(boolean done,
+                                   long rows,
+                                   long imported,
+                                   long rejected,
+                                   int batches,
+                                   String error) {
+}
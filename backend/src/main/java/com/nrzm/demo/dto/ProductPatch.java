@@ -0,0 +1,14 @@
+package com.nrzm.demo.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 부분 수정 요청. version 은 필수이며 null 인 필드는 변경하지 않습니다.
+ */
+public record ProductPatch(Long version,
+                           String name,
+                           String description,
+                           BigDecimal price,
+                           Integer stockQuantity,
+                           Integer categoryId) {
+}
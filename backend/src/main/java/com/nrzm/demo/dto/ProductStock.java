@@ -0,0 +1,7 @@
+package com.nrzm.demo.dto;
+
+/**
+ * 재고 변경량 계산용 프로젝션 (DB 의 현재 재고 + version)
+ */
+public record ProductStock(Integer stockQuantity, Long version) {
+}
@@ -0,0 +1,19 @@
+package com.nrzm.demo.dto;
+
+import com.nrzm.demo.entity.Order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 판매 집계 조회 결과. 묶지 않은 기준(day, productId, status)은 null 입니다.
+ * 상품 기준이면 orders 는 해당 상품이 포함된 주문 수, amount 는 주문상품 금액(가격 x 수량) 합계이고
+ * 그 외에는 주문 수와 주문 totalAmount 합계입니다.
+ */
+public record SalesRollupRow(LocalDate day,
+                             Long productId,
+                             OrderStatus status,
+                             long orders,
+                             long quantity,
+                             BigDecimal amount) {
+}
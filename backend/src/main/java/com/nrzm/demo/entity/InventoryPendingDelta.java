@@ -0,0 +1,24 @@
+package com.nrzm.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * 재고 원장(InventoryLedger)이 products.stock_quantity 에 아직 반영하지 않은 재고 변경량.
+ * 주문과 같은 트랜잭션으로 기록되고, 원장의 flush 가 재고에 더한 뒤 삭제합니다. (행 기록/삭제는 원장이 JDBC 로 수행)
+ */
+@Entity
+@Data
+@Table(name = "inventory_pending_deltas", indexes = {
+        @Index(name = "idx_inventory_pending_deltas_product", columnList = "product_id") // 원장 적재 시 상품별 미반영 합계
+})
+public class InventoryPendingDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // JDBC 로만 INSERT 하므로 Hibernate 배치와 무관
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+    @Column(nullable = false)
+    private Integer delta;
+}
@@ -5,10 +5,11 @@ import lombok.Data;
 
 @Entity
 @Data
-@Table(name = "members")
+@Table(name = "members", indexes = @Index(name = "idx_members_is_deleted", columnList = "is_deleted, member_id"))
 public class Member {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = 50)
     private Long memberId;
 
     @Column(nullable = false, unique = true)
@@ -21,4 +22,7 @@ public class Member {
     private String address;
     @Column(nullable = false)
     private Boolean isDeleted = false;
+
+    @Version // 부분 수정(PATCH)과 동시 수정 시 마지막 저장이 앞선 변경을 덮어쓰지 않도록 확인
+    private Long version;
 }
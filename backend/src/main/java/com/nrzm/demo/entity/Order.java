@@ -9,10 +9,16 @@ import java.util.List;
 
 @Entity
 @Data
-@Table(name = "orders")
+// 회원별 목록·커서(member_id, order_date, order_id), 전체 목록·커서(order_date, order_id), 금액순 목록(total_amount, order_id) 접근 경로
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_member_date", columnList = "member_id, order_date, order_id"),
+        @Index(name = "idx_orders_date", columnList = "order_date, order_id"),
+        @Index(name = "idx_orders_total_amount", columnList = "total_amount desc, order_id desc") // H2 는 인덱스와 방향이 같은 정렬만 인덱스 순서로 읽음 (기본 정렬이 내림차순)
+})
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50) // 시퀀스 50개 단위 선할당: INSERT 배치 가능 (IDENTITY 는 배치 불가)
     private Long orderId;
 
     @Column(unique = true)
@@ -22,6 +28,7 @@ public class Order {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    @Column(nullable = false) // 커서 목록의 정렬 키 (null 행은 커서로 이어서 조회할 수 없음)
     private LocalDateTime orderDate;
     private BigDecimal totalAmount;
 
@@ -31,6 +38,9 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems;
 
+    @Version
+    private Long version;
+
     public enum OrderStatus {
         PENDING("주문접수"),
         PROCESSING("처리중"),
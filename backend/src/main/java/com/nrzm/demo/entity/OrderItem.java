@@ -7,10 +7,11 @@ import java.math.BigDecimal;
 
 @Entity
 @Data
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = @Index(name = "idx_order_items_order", columnList = "order_id"))
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long orderItemId;
 
     @ManyToOne
@@ -2,6 +2,8 @@ package com.nrzm.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,9 +12,12 @@ import java.util.List;
 @Entity
 @Data
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 주문상품 로딩 시 상품 재조회 방지
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long productId;
 
     @Column(nullable = false)
@@ -25,5 +30,8 @@ public class Product {
     private Integer stockQuantity;
     @Column(nullable = false)
     private Integer categoryId;
+
+    @Version // 주문에 의한 재고 차감(벌크 UPDATE)도 증가시키므로 관리자 재고 수정과의 충돌도 감지
+    private Long version;
 }
 
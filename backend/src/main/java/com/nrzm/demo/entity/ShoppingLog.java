@@ -6,10 +6,15 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "shopping_logs")
+// 회원별 목록·커서(member_id, created_at, id), 전체 커서(created_at, id) 접근 경로
+@Table(name = "shopping_logs", indexes = {
+        @Index(name = "idx_shopping_logs_member_created", columnList = "member_id, created_at, id"),
+        @Index(name = "idx_shopping_logs_created", columnList = "created_at, id")
+})
 public class ShoppingLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shopping_logs_seq")
+    @SequenceGenerator(name = "shopping_logs_seq", sequenceName = "shopping_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -21,6 +26,7 @@ public class ShoppingLog {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Column(nullable = false) // 커서 목록의 정렬 키 (null 행은 커서로 이어서 조회할 수 없음)
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -4,6 +4,8 @@ import com.nrzm.demo.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,4 +15,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Page<Member> findByIsDeletedFalse(Pageable pageable);
 
     Page<Member> findByIsDeletedTrue(Pageable pageable);
+
+    @Query("select m.email from Member m where m.memberId = :memberId")
+    Optional<String> findEmailByMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
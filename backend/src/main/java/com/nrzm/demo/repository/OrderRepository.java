@@ -1,11 +1,93 @@
 package com.nrzm.demo.repository;
 
-import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.dto.OrderItemSummary;
+import com.nrzm.demo.dto.OrderReportSourceRow;
+import com.nrzm.demo.dto.OrderRollupRow;
+import com.nrzm.demo.dto.OrderSummary;
 import com.nrzm.demo.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
-    Page<Order> findAllByMember(Member member, Pageable pageable);
-}
\ No newline at end of file
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+    // 주문 목록: 주문 페이지(+회원명) 1회, 건수 1회, 주문상품(+상품명) 1회로 조회 (주문 수와 무관)
+    @Query(value = "select new com.nrzm.demo.dto.OrderSummary(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status, o.version)" +
+            " from Order o left join o.member m",
+            countQuery = "select count(o) from Order o")
+    Page<OrderSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "select new com.nrzm.demo.dto.OrderSummary(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status, o.version)" +
+            " from Order o join o.member m where o.member.memberId = :memberId",
+            countQuery = "select count(o) from Order o where o.member.memberId = :memberId")
+    Page<OrderSummary> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 커서(키셋) 목록: (orderDate, orderId) 내림차순으로 마지막 위치 다음부터 조회, OFFSET/건수 조회 없음
+    @Query("select new com.nrzm.demo.dto.OrderSummary(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status, o.version)" +
+            " from Order o left join o.member m order by o.orderDate desc, o.orderId desc")
+    List<OrderSummary> findSummariesFirst(Pageable pageable);
+
+    @Query("select new com.nrzm.demo.dto.OrderSummary(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status, o.version)" +
+            " from Order o left join o.member m" +
+            " where o.orderDate <= :orderDate and (o.orderDate < :orderDate or o.orderId < :orderId)" +
+            " order by o.orderDate desc, o.orderId desc")
+    List<OrderSummary> findSummariesAfter(@Param("orderDate") LocalDateTime orderDate, @Param("orderId") Long orderId, Pageable pageable);
+
+    @Query("select new com.nrzm.demo.dto.OrderSummary(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status, o.version)" +
+            " from Order o join o.member m where o.member.memberId = :memberId order by o.orderDate desc, o.orderId desc")
+    List<OrderSummary> findSummariesByMemberIdFirst(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select new com.nrzm.demo.dto.OrderSummary(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status, o.version)" +
+            " from Order o join o.member m where o.member.memberId = :memberId" +
+            " and o.orderDate <= :orderDate and (o.orderDate < :orderDate or o.orderId < :orderId)" +
+            " order by o.orderDate desc, o.orderId desc")
+    List<OrderSummary> findSummariesByMemberIdAfter(@Param("memberId") Long memberId, @Param("orderDate") LocalDateTime orderDate,
+                                                    @Param("orderId") Long orderId, Pageable pageable);
+
+    @Query("select new com.nrzm.demo.dto.OrderItemSummary(i.order.orderId, i.orderItemId, p.productId, p.name, i.quantity, i.price)" +
+            " from OrderItem i join i.product p where i.order.orderId in :orderIds order by i.orderItemId")
+    List<OrderItemSummary> findItemSummariesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    // 판매 집계 재계산: 주문 id 구간 단위로 나누어 병렬 조회
+    @Query("select min(o.orderId) from Order o")
+    Long findMinOrderId();
+
+    @Query("select max(o.orderId) from Order o")
+    Long findMaxOrderId();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.nrzm.demo.dto.OrderRollupRow(o.orderId, o.orderDate, o.status, o.totalAmount, i.product.productId, i.quantity, i.price)" +
+            " from Order o left join o.orderItems i" +
+            " where o.orderId between :fromId and :toId" +
+            " order by o.orderId, i.orderItemId")
+    List<OrderRollupRow> findRollupRows(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 주문 리포트 스냅샷: afterId 이후 주문을 (orderId, orderItemId) 순서로 적재 (주문상품이 없는 주문 제외)
+    // 호출 측은 트랜잭션 안에서 Stream 을 소비하고 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.nrzm.demo.dto.OrderReportSourceRow(o.orderId, o.orderDate, o.status, m.address, p.productId, p.categoryId, i.quantity, i.price)" +
+            " from Order o join o.orderItems i join i.product p left join o.member m" +
+            " where o.orderId > :afterId" +
+            " order by o.orderId, i.orderItemId")
+    Stream<OrderReportSourceRow> streamReportRowsAfter(@Param("afterId") Long afterId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.nrzm.demo.dto.OrderReportSourceRow(o.orderId, o.orderDate, o.status, m.address, p.productId, p.categoryId, i.quantity, i.price)" +
+            " from Order o join o.orderItems i join i.product p left join o.member m" +
+            " where o.orderId in :orderIds" +
+            " order by o.orderId, i.orderItemId")
+    List<OrderReportSourceRow> findReportRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,11 @@
+package com.nrzm.demo.repository;
+
+import com.nrzm.demo.dto.OrderExportRow;
+import com.nrzm.demo.entity.Order;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface OrderRepositoryCustom {
+    Stream<OrderExportRow> streamExportRows(LocalDateTime from, LocalDateTime to, Order.OrderStatus status);
+}
@@ -0,0 +1,56 @@
+package com.nrzm.demo.repository;
+
+import com.nrzm.demo.dto.OrderExportRow;
+import com.nrzm.demo.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 내보내기: 조건에 맞는 주문을 (orderId, orderItemId) 순서의 평탄화 행으로 전진 전용 커서 조회
+    // (:from is null or ...) 형태는 H2 가 인덱스 조건으로 쓰지 못해 전체 스캔하므로 주어진 조건만 WHERE 에 넣음
+    // 호출 측은 트랜잭션 안에서 Stream 을 소비하고 닫아야 함
+    @Override
+    public Stream<OrderExportRow> streamExportRows(LocalDateTime from, LocalDateTime to, Order.OrderStatus status) {
+        List<String> conditions = new ArrayList<>();
+        if (from != null) {
+            conditions.add("o.orderDate >= :from");
+        }
+        if (to != null) {
+            conditions.add("o.orderDate < :to");
+        }
+        if (status != null) {
+            conditions.add("o.status = :status");
+        }
+
+        String jpql = "select new com.nrzm.demo.dto.OrderExportRow(o.orderId, o.orderNumber, m.username, o.orderDate, o.totalAmount, o.status," +
+                " i.orderItemId, p.productId, p.name, i.quantity, i.price)" +
+                " from Order o left join o.member m left join o.orderItems i left join i.product p" +
+                (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions)) +
+                " order by o.orderId, i.orderItemId";
+        TypedQuery<OrderExportRow> query = entityManager.createQuery(jpql, OrderExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false);
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        return query.getResultStream();
+    }
+}
@@ -1,7 +1,16 @@
 package com.nrzm.demo.repository;
 
+import com.nrzm.demo.dto.ProductStock;
 import com.nrzm.demo.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
-}
\ No newline at end of file
+import java.util.Optional;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    // 프로젝션 조회라 2차 캐시(커밋 후 무효화 전의 이전 값일 수 있음)를 거치지 않고 DB 값을 읽음
+    @Query("select new com.nrzm.demo.dto.ProductStock(p.stockQuantity, p.version) from Product p where p.productId = :productId")
+    Optional<ProductStock> findStockById(@Param("productId") Long productId);
+}
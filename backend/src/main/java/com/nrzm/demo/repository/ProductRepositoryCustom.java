@@ -0,0 +1,5 @@
+package com.nrzm.demo.repository;
+
+public interface ProductRepositoryCustom {
+    int decrementStock(Long productId, int quantity);
+}
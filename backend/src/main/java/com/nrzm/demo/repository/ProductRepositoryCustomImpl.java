@@ -0,0 +1,31 @@
+package com.nrzm.demo.repository;
+
+import com.nrzm.demo.config.TransactionHooks;
+import com.nrzm.demo.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    static final String DECREMENT_STOCK_SQL = "update products set stock_quantity = stock_quantity - ?, version = version + 1" +
+            " where product_id = ? and stock_quantity >= ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 재고가 충분할 때만 차감하는 단일 UPDATE (행 잠금 안에서 조건 확인과 차감이 함께 일어나 초과 판매 불가)
+    // JPQL 벌크 UPDATE 는 실행할 때마다 Product 2차 캐시 영역 전체를 비우므로 JDBC 로 실행하고 해당 상품만 무효화
+    @Override
+    public int decrementStock(Long productId, int quantity) {
+        int updated = jdbcTemplate.update(DECREMENT_STOCK_SQL, quantity, productId, quantity);
+        if (updated > 0) {
+            // 지금 비우고, 커밋 전에 다른 트랜잭션이 이전 값을 다시 적재했을 수 있으므로 커밋 후 한 번 더
+            entityManagerFactory.getCache().evict(Product.class, productId);
+            TransactionHooks.afterCommit(() -> entityManagerFactory.getCache().evict(Product.class, productId));
+        }
+        return updated;
+    }
+}
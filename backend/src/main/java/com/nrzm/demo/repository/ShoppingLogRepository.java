@@ -1,11 +1,36 @@
 package com.nrzm.demo.repository;
 
 import com.nrzm.demo.entity.ShoppingLog;
-import com.nrzm.demo.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ShoppingLogRepository extends JpaRepository<ShoppingLog, Long> {
-    Page<ShoppingLog> findByMember(Member member, Pageable pageable);
+    // 회원 엔티티를 먼저 조회하지 않고 memberId 로 조회 (응답에 포함되는 회원은 같은 쿼리에서 함께 로딩)
+    @Query(value = "select s from ShoppingLog s join fetch s.member m where m.memberId = :memberId",
+            countQuery = "select count(s) from ShoppingLog s where s.member.memberId = :memberId")
+    Page<ShoppingLog> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 커서(키셋) 목록: (createdAt, id) 내림차순으로 마지막 위치 다음부터 조회, OFFSET/건수 조회 없음
+    @Query("select s from ShoppingLog s left join fetch s.member order by s.createdAt desc, s.id desc")
+    List<ShoppingLog> findFirst(Pageable pageable);
+
+    @Query("select s from ShoppingLog s left join fetch s.member" +
+            " where s.createdAt <= :createdAt and (s.createdAt < :createdAt or s.id < :id)" +
+            " order by s.createdAt desc, s.id desc")
+    List<ShoppingLog> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select s from ShoppingLog s join fetch s.member m where m.memberId = :memberId order by s.createdAt desc, s.id desc")
+    List<ShoppingLog> findByMemberIdFirst(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select s from ShoppingLog s join fetch s.member m where m.memberId = :memberId" +
+            " and s.createdAt <= :createdAt and (s.createdAt < :createdAt or s.id < :id)" +
+            " order by s.createdAt desc, s.id desc")
+    List<ShoppingLog> findByMemberIdAfter(@Param("memberId") Long memberId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
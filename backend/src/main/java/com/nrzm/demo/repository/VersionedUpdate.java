@@ -0,0 +1,138 @@
+package com.nrzm.demo.repository;
+
+import com.nrzm.demo.config.TransactionHooks;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.NativeQuery;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code @Version} 엔티티의 지정한 필드만 바꾸는 단일 UPDATE 문 (조회 없이 실행).
+ * id 와 version 이 모두 일치하는 행만 반영하고 version 을 1 증가시킵니다.
+ * <pre>
+ * long version = VersionedUpdate.of(entityManager, Product.class, "productId", id, patch.version())
+ *         .set("name", patch.name())
+ *         .execute();
+ * </pre>
+ * JPQL/Criteria 벌크 UPDATE 는 실행할 때마다 해당 엔티티의 2차 캐시 영역 전체를 비우므로,
+ * 매핑 정보로 만든 네이티브 UPDATE 로 실행하고 변경한 id 만 무효화합니다.
+ * 영속성 컨텍스트의 엔티티는 갱신되지 않습니다.
+ */
+public class VersionedUpdate<T> {
+
+    private record Assignment(Object value, BasicValuedModelPart mapping) {
+    }
+
+    private final EntityManager entityManager;
+    private final Class<T> entityType;
+    private final Object id;
+    private final long version;
+    private final AbstractEntityPersister persister;
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    private VersionedUpdate(EntityManager entityManager, Class<T> entityType, Object id, long version) {
+        this.entityManager = entityManager;
+        this.entityType = entityType;
+        this.id = id;
+        this.version = version;
+        this.persister = (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityType);
+    }
+
+    /**
+     * @param idAttribute 식별자 속성명 (매핑된 식별자와 다르면 IllegalArgumentException)
+     * @param version     클라이언트가 마지막으로 읽은 version (필수)
+     * @throws IllegalArgumentException version 이 없는 경우
+     */
+    public static <T> VersionedUpdate<T> of(EntityManager entityManager, Class<T> entityType, String idAttribute, Object id, Long version) {
+        if (version == null) {
+            throw new IllegalArgumentException("version 이 필요합니다.");
+        }
+        VersionedUpdate<T> update = new VersionedUpdate<>(entityManager, entityType, id, version);
+        if (!idAttribute.equals(update.persister.getIdentifierPropertyName())) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + " 의 식별자가 아닙니다: " + idAttribute);
+        }
+        return update;
+    }
+
+    /**
+     * 값이 null 이면 변경하지 않습니다.
+     */
+    public VersionedUpdate<T> set(String attribute, Object value) {
+        if (value != null) {
+            AttributeMapping mapping = persister.findAttributeMapping(attribute);
+            if (!(mapping instanceof BasicValuedModelPart basic)) {
+                throw new IllegalArgumentException(entityType.getSimpleName() + " 의 단일 컬럼 속성이 아닙니다: " + attribute);
+            }
+            assignments.add(new Assignment(value, basic));
+        }
+        return this;
+    }
+
+    /**
+     * @return 변경 후 version
+     * @throws EntityNotFoundException                 id 에 해당하는 행이 없는 경우
+     * @throws ObjectOptimisticLockingFailureException 그 사이 다른 요청이 먼저 수정한 경우
+     */
+    @SuppressWarnings("unchecked")
+    public long execute() {
+        String idColumn = ((BasicValuedModelPart) persister.getIdentifierMapping()).getSelectionExpression();
+        String versionColumn = persister.getVersionMapping().getSelectionExpression();
+
+        StringBuilder sql = new StringBuilder("update ").append(persister.getTableName()).append(" set ");
+        for (Assignment assignment : assignments) {
+            sql.append(assignment.mapping().getSelectionExpression()).append(" = ?, ");
+        }
+        sql.append(versionColumn).append(" = ").append(versionColumn).append(" + 1")
+                .append(" where ").append(idColumn).append(" = ? and ").append(versionColumn).append(" = ?");
+
+        entityManager.flush(); // JPQL 벌크 UPDATE 와 같이 대기 중인 변경을 먼저 반영
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString()).unwrap(NativeQuery.class);
+        // 동기화 대상이 없음을 명시해야 실행 후 2차 캐시 영역 전체 무효화가 일어나지 않음 (변경한 id 는 아래에서 무효화)
+        query.addSynchronizedQuerySpace("");
+        int position = 1;
+        for (Assignment assignment : assignments) {
+            // 속성의 매핑 타입으로 바인딩 (EnumType.STRING 등 변환 포함)
+            if (assignment.mapping().getJdbcMapping() instanceof BindableType<?> type) {
+                query.setParameter(position++, assignment.value(), (BindableType<Object>) type);
+            } else {
+                query.setParameter(position++, assignment.value());
+            }
+        }
+        query.setParameter(position++, id);
+        query.setParameter(position, version);
+
+        if (query.executeUpdate() == 1) {
+            evict();
+            return version + 1;
+        }
+
+        // 실패한 경우에만 원인 구분을 위해 한 번 더 조회
+        Long count = entityManager.createQuery(
+                        "select count(e) from " + entityType.getSimpleName() + " e where e." + persister.getIdentifierPropertyName() + " = :id", Long.class)
+                .setParameter("id", id)
+                .getSingleResult();
+        if (count == 0) {
+            throw new EntityNotFoundException(entityType.getSimpleName() + " not found with id: " + id);
+        }
+        throw new ObjectOptimisticLockingFailureException(entityType, id);
+    }
+
+    // 지금 비우고, 커밋 전에 다른 트랜잭션이 이전 값을 다시 적재했을 수 있으므로 커밋 후 한 번 더 (캐시 대상이 아니면 무시됨)
+    private void evict() {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(entityType, id);
+        TransactionHooks.afterCommit(() -> cache.evict(entityType, id));
+    }
+}
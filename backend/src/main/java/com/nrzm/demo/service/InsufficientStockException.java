@@ -0,0 +1,13 @@
+package com.nrzm.demo.service;
+
+import lombok.Getter;
+
+@Getter
+public class InsufficientStockException extends RuntimeException {
+    private final Long productId;
+
+    public InsufficientStockException(Long productId) {
+        super("재고가 부족합니다. productId=" + productId);
+        this.productId = productId;
+    }
+}
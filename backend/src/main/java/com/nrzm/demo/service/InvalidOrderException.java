@@ -0,0 +1,7 @@
+package com.nrzm.demo.service;
+
+public class InvalidOrderException extends RuntimeException {
+    public InvalidOrderException(String message) {
+        super(message);
+    }
+}
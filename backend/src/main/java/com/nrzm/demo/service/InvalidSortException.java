@@ -0,0 +1,7 @@
+package com.nrzm.demo.service;
+
+public class InvalidSortException extends RuntimeException {
+    public InvalidSortException(String message) {
+        super(message);
+    }
+}
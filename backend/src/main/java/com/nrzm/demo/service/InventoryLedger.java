@@ -0,0 +1,272 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.entity.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 재고를 메모리에서 관리하는 원장 (inventory.ledger.enabled=true 일 때 주문 생성에서 사용).
+ * <ul>
+ *     <li>예약/해제는 상품별 CAS 카운터만 사용하며 DB 행 잠금을 잡지 않습니다.</li>
+ *     <li>예약(hold)은 확정(confirm)되지 않으면 hold-ttl 후 자동 해제됩니다.</li>
+ *     <li>주문의 차감량은 주문과 같은 트랜잭션으로 inventory_pending_deltas 에 기록하고(recordSale),
+ *     주기적으로 모아 products.stock_quantity 에 배치 UPDATE 합니다(write-behind).</li>
+ *     <li>상품별 재고는 처음 사용할 때 DB 재고 + 미반영 변경량으로 적재하므로, 비정상 종료 후에도 커밋된 주문의 차감분이 유지됩니다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class InventoryLedger implements DisposableBean {
+
+    public record Hold(String id, Long productId, int quantity, long expiresAtMillis) {
+    }
+
+    private static final class Entry {
+        final AtomicInteger available; // 예약 가능한 수량 (DB 재고 + 미반영 변경량 - 예약중)
+
+        Entry(int stock) {
+            this.available = new AtomicInteger(stock);
+        }
+    }
+
+    // 한 문장으로 읽어야 flush 커밋 전후가 섞이지 않음 (재고는 반영 전, 변경량은 삭제 후로 읽어 차감분을 빠뜨리는 경우)
+    public static final String LOAD_SQL = "select p.stock_quantity + coalesce((select sum(d.delta) from inventory_pending_deltas d" +
+            " where d.product_id = p.product_id), 0) from products p where p.product_id = ?";
+    private static final String INSERT_DELTA_SQL = "insert into inventory_pending_deltas (product_id, delta) values (?, ?)";
+    private static final int FLUSH_BATCH_ROWS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ProductCache productCache;
+
+    private final boolean enabled;
+    private final Duration holdTtl;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final Counter expiredCounter;
+    private final Counter flushedCounter;
+
+    public InventoryLedger(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           EntityManagerFactory entityManagerFactory,
+                           ProductCache productCache,
+                           MeterRegistry meterRegistry,
+                           @Value("${inventory.ledger.enabled:false}") boolean enabled,
+                           @Value("${inventory.ledger.hold-ttl:5m}") Duration holdTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.productCache = productCache;
+        this.enabled = enabled;
+        this.holdTtl = holdTtl;
+
+        this.expiredCounter = Counter.builder("inventory.holds.expired")
+                .description("확정되지 않아 만료 해제된 재고 예약 수")
+                .register(meterRegistry);
+        Gauge.builder("inventory.holds.active", holds, Map::size)
+                .description("확정 대기 중인 재고 예약 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("inventory.deltas.flushed")
+                .description("products.stock_quantity 에 반영한 미반영 변경량 행 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 여러 상품을 한 번에 예약합니다. 하나라도 부족하면 이미 잡은 예약을 모두 풀고 InsufficientStockException.
+     *
+     * @param quantities 상품 id -> 수량
+     */
+    public List<Hold> reserveAll(Map<Long, Integer> quantities) {
+        List<Hold> acquired = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            Hold hold = reserve(line.getKey(), line.getValue());
+            if (hold == null) {
+                acquired.forEach(this::release);
+                throw new InsufficientStockException(line.getKey());
+            }
+            acquired.add(hold);
+        }
+        return acquired;
+    }
+
+    /**
+     * @return 예약, 재고가 부족하면 null
+     */
+    public Hold reserve(Long productId, int quantity) {
+        Entry entry = entry(productId);
+        if (entry == null) {
+            throw new InvalidOrderException("존재하지 않는 상품입니다. productId=" + productId);
+        }
+
+        int current;
+        do {
+            current = entry.available.get();
+            if (current < quantity) {
+                return null;
+            }
+        } while (!entry.available.compareAndSet(current, current - quantity));
+
+        Hold hold = new Hold(UUID.randomUUID().toString(), productId, quantity, System.currentTimeMillis() + holdTtl.toMillis());
+        holds.put(hold.id(), hold);
+        return hold;
+    }
+
+    /**
+     * 주문 차감량을 현재 트랜잭션에 기록합니다. 주문과 함께 커밋/롤백되며, 재고에는 flush 때 반영됩니다.
+     *
+     * @param quantities 상품 id -> 수량
+     */
+    public void recordSale(Map<Long, Integer> quantities) {
+        List<Object[]> rows = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> rows.add(new Object[]{productId, -quantity}));
+        jdbcTemplate.batchUpdate(INSERT_DELTA_SQL, rows);
+    }
+
+    /**
+     * 주문이 커밋된 뒤 예약을 확정합니다 (차감량은 recordSale 로 이미 기록됨).
+     */
+    public void confirm(Hold hold) {
+        boolean held = holds.remove(hold.id()) != null;
+        Entry entry = entries.get(hold.productId());
+        if (entry == null) {
+            return; // 그 사이 상품이 삭제됨
+        }
+        if (!held) {
+            // 확정 직전에 만료되어 수량이 이미 되돌려진 경우 다시 차감 (음수가 되면 초과 판매이므로 기록)
+            int available = entry.available.addAndGet(-hold.quantity());
+            if (available < 0) {
+                log.warn("Inventory oversold after hold expiry: productId={}, available={}", hold.productId(), available);
+            }
+        }
+    }
+
+    public void release(Hold hold) {
+        if (holds.remove(hold.id()) != null) {
+            giveBack(hold);
+        }
+    }
+
+    private void giveBack(Hold hold) {
+        Entry entry = entries.get(hold.productId());
+        if (entry != null) {
+            entry.available.addAndGet(hold.quantity());
+        }
+    }
+
+    /**
+     * 관리자가 DB 재고를 직접 변경한 경우 변경량만큼 원장에도 반영합니다 (아직 적재되지 않은 상품은 다음 사용 시 DB 에서 읽음).
+     */
+    public void adjust(Long productId, int delta) {
+        Entry entry = entries.get(productId);
+        if (entry != null && delta != 0) {
+            entry.available.addAndGet(delta);
+        }
+    }
+
+    public void remove(Long productId) {
+        entries.remove(productId);
+    }
+
+    /**
+     * @return 예약 가능 수량, 상품이 없으면 null
+     */
+    public Integer available(Long productId) {
+        Entry entry = entry(productId);
+        return entry != null ? entry.available.get() : null;
+    }
+
+    private Entry entry(Long productId) {
+        return entries.computeIfAbsent(productId, id -> jdbcTemplate.queryForList(LOAD_SQL, Integer.class, id).stream()
+                .findFirst()
+                .map(Entry::new)
+                .orElse(null));
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.expiry-interval-millis:1000}")
+    public void releaseExpiredHolds() {
+        if (!enabled || holds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Hold hold : holds.values()) {
+            if (hold.expiresAtMillis() <= now && holds.remove(hold.id()) != null) {
+                giveBack(hold);
+                expiredCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 미반영 변경량을 상품별로 합산해 한 트랜잭션에서 재고에 더하고 반영한 행을 삭제합니다. 실패하면 행이 남아 다음 주기에 재시도합니다.
+     * (재고 + 미반영 변경량의 합은 그대로이므로 메모리의 예약 가능 수량은 바뀌지 않음)
+     */
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-millis:1000}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> productIds;
+        try {
+            productIds = transactionTemplate.execute(status -> {
+                List<Long> ids = new ArrayList<>();
+                Map<Long, Integer> deltas = new TreeMap<>(); // 상품 id 순으로 UPDATE (행 잠금 순서 고정)
+                jdbcTemplate.query("select id, product_id, delta from inventory_pending_deltas order by id fetch first ? rows only", rs -> {
+                    ids.add(rs.getLong(1));
+                    deltas.merge(rs.getLong(2), rs.getInt(3), Integer::sum);
+                }, FLUSH_BATCH_ROWS);
+                if (ids.isEmpty()) {
+                    return List.of();
+                }
+
+                // 읽은 행만 지정해 삭제 (그 사이 커밋된 행은 다음 주기에 반영)
+                List<Object[]> updates = new ArrayList<>(deltas.size());
+                deltas.forEach((productId, delta) -> updates.add(new Object[]{delta, productId}));
+                jdbcTemplate.batchUpdate("update products set stock_quantity = stock_quantity + ?, version = version + 1 where product_id = ?", updates);
+                jdbcTemplate.batchUpdate("delete from inventory_pending_deltas where id = ?", ids.stream().map(id -> new Object[]{id}).toList());
+                flushedCounter.increment(ids.size());
+                return List.copyOf(deltas.keySet());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Inventory flush failed, will retry", e);
+            return;
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        // JDBC 로 직접 변경했으므로 Hibernate 2차 캐시와 상품 조회 캐시를 무효화
+        productIds.forEach(id -> entityManagerFactory.getCache().evict(Product.class, id));
+        productCache.evictUpdatedAfterCommit(productIds);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -1,12 +1,19 @@
 package com.nrzm.demo.service;
 
+import com.nrzm.demo.auth.service.UserDetailsCache;
 import com.nrzm.demo.dto.MemberDTO;
+import com.nrzm.demo.dto.MemberPatch;
+import com.nrzm.demo.dto.PatchResult;
 import com.nrzm.demo.entity.Member;
 import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.VersionedUpdate;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +22,10 @@ public class MemberService {
 
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Transactional(readOnly = true)
     public Page<MemberDTO> getMembers(Pageable pageable, String status) {
@@ -29,12 +40,6 @@ public class MemberService {
         return memberPage.map(this::convertToDTO);
     }
 
-    @Transactional(readOnly = true)
-    public Member getMemberByUsername(String username) {
-        return memberRepository.findByEmail(username)
-                .orElseThrow(() -> new RuntimeException("Member not found with username: " + username));
-    }
-
     @Transactional(readOnly = true)
     public Member getMemberById(Long id) {
         return memberRepository.findById(id).orElse(null);
@@ -49,12 +54,6 @@ public class MemberService {
         return convertToDTO(member);
     }
 
-    @Transactional(readOnly = true)
-    public MemberDTO getMemberDTOByUsername(String username) {
-        Member member = getMemberByUsername(username);
-        return convertToDTO(member);
-    }
-
     @Transactional
     public MemberDTO addMember(MemberDTO memberDTO) {
         Member member = convertToEntity(memberDTO);
@@ -67,6 +66,11 @@ public class MemberService {
     public MemberDTO updateMember(Long id, MemberDTO memberDTO) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
+        if (memberDTO.getVersion() != null && !memberDTO.getVersion().equals(member.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Member.class, id); // 조회 이후 다른 요청이 먼저 수정함
+        }
+        // 회원 로그인 ID 는 이메일이므로 변경 전/후 이메일 모두 인증 캐시에서 제거
+        userDetailsCache.evictAfterCommit(member.getEmail(), memberDTO.getEmail());
 
         if (memberDTO.getUsername() != null) member.setUsername(memberDTO.getUsername());
         if (memberDTO.getEmail() != null) member.setEmail(memberDTO.getEmail());
@@ -78,11 +82,34 @@ public class MemberService {
         return convertToDTO(updatedMember);
     }
 
+    /**
+     * 보낸 필드만 UPDATE 한 번으로 변경합니다 (version 불일치 시 ObjectOptimisticLockingFailureException).
+     */
+    @Transactional
+    public PatchResult patchMember(Long id, MemberPatch patch) {
+        // 이메일(로그인 ID)을 바꿀 때만 이전 이메일의 인증 캐시를 지우기 위해 조회
+        String previousEmail = patch.email() != null ? memberRepository.findEmailByMemberId(id).orElse(null) : null;
+
+        long version = VersionedUpdate.of(entityManager, Member.class, "memberId", id, patch.version())
+                .set("username", patch.username())
+                .set("email", patch.email())
+                .set("phoneNumber", patch.phoneNumber())
+                .set("address", patch.address())
+                .set("isDeleted", patch.isDeleted())
+                .execute();
+
+        if (previousEmail != null) {
+            userDetailsCache.evictAfterCommit(previousEmail, patch.email());
+        }
+        return new PatchResult(id, version);
+    }
+
     @Transactional
     public MemberDTO deleteMember(Long id) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
         member.setIsDeleted(true);
+        userDetailsCache.evictAfterCommit(member.getEmail());
         Member deletedMember = memberRepository.save(member);
         return convertToDTO(deletedMember);
     }
@@ -104,6 +131,7 @@ public class MemberService {
         dto.setPhoneNumber(member.getPhoneNumber());
         dto.setAddress(member.getAddress());
         dto.setIsDeleted(member.getIsDeleted());
+        dto.setVersion(member.getVersion());
         return dto;
     }
 
@@ -0,0 +1,184 @@
+package com.nrzm.demo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nrzm.demo.dto.OrderExportRow;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기. DB 커서에서 한 행씩 읽어 바로 출력 스트림에 기록하므로 전체 결과를 메모리에 올리지 않습니다.
+ */
+@Service
+public class OrderExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final String CSV_HEADER = "orderId,orderNumber,username,orderDate,totalAmount,status," +
+            "orderItemId,productId,productName,quantity,price";
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${order.export.clear-interval:1000}")
+    private int clearInterval;
+
+    /**
+     * @param from 포함, null 이면 제한 없음
+     * @param to   제외, null 이면 제한 없음
+     * @return 내보낸 주문 수
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime from, LocalDateTime to, Order.OrderStatus status, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(from, to, status)) {
+            long orders = format == Format.CSV ? writeCsv(rows.iterator(), writer) : writeNdjson(rows.iterator(), writer);
+            writer.flush();
+            return orders;
+        }
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long orders = 0;
+        long count = 0;
+        Long currentOrderId = null;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (!row.orderId().equals(currentOrderId)) {
+                currentOrderId = row.orderId();
+                orders++;
+            }
+            writer.write(String.valueOf(row.orderId()));
+            writer.write(',');
+            writeCsvValue(writer, row.orderNumber());
+            writer.write(',');
+            writeCsvValue(writer, row.username());
+            writer.write(',');
+            writeCsvValue(writer, row.orderDate());
+            writer.write(',');
+            writeCsvValue(writer, row.totalAmount() != null ? row.totalAmount().toPlainString() : null);
+            writer.write(',');
+            writeCsvValue(writer, row.status());
+            writer.write(',');
+            writeCsvValue(writer, row.orderItemId());
+            writer.write(',');
+            writeCsvValue(writer, row.productId());
+            writer.write(',');
+            writeCsvValue(writer, row.productName());
+            writer.write(',');
+            writeCsvValue(writer, row.quantity());
+            writer.write(',');
+            writeCsvValue(writer, row.price() != null ? row.price().toPlainString() : null);
+            writer.write('\n');
+
+            clearPeriodically(++count);
+        }
+        return orders;
+    }
+
+    // 같은 주문의 행은 연속되므로(orderId 정렬) 주문 하나씩 묶어 {..., "orderItems": [...]} 한 줄로 출력
+    private long writeNdjson(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        generator.configure(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM, false); // 주문마다 소켓으로 flush 하지 않고 writer 버퍼에 모음
+
+        long orders = 0;
+        long count = 0;
+        Long currentOrderId = null;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (!row.orderId().equals(currentOrderId)) {
+                if (currentOrderId != null) {
+                    endOrder(generator, writer);
+                }
+                currentOrderId = row.orderId();
+                orders++;
+
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.orderId());
+                generator.writeStringField("orderNumber", row.orderNumber());
+                generator.writeStringField("username", row.username());
+                generator.writeStringField("orderDate", row.orderDate() != null ? row.orderDate().toString() : null);
+                if (row.totalAmount() != null) {
+                    generator.writeNumberField("totalAmount", row.totalAmount());
+                } else {
+                    generator.writeNullField("totalAmount");
+                }
+                generator.writeStringField("status", row.status() != null ? row.status().name() : null);
+                generator.writeArrayFieldStart("orderItems");
+            }
+
+            if (row.orderItemId() != null) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.orderItemId());
+                generator.writeNumberField("productId", row.productId());
+                generator.writeStringField("productName", row.productName());
+                generator.writeNumberField("quantity", row.quantity());
+                generator.writeNumberField("price", row.price());
+                generator.writeEndObject();
+            }
+
+            clearPeriodically(++count);
+        }
+        if (currentOrderId != null) {
+            endOrder(generator, writer);
+        }
+        generator.flush();
+        return orders;
+    }
+
+    private void endOrder(JsonGenerator generator, Writer writer) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+        writer.write('\n');
+    }
+
+    // 스칼라 프로젝션이라 엔티티는 쌓이지 않지만, 요청 범위(open-in-view) 영속성 컨텍스트를 주기적으로 비워 힙 사용량을 일정하게 유지
+    private void clearPeriodically(long count) {
+        if (count % clearInterval == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
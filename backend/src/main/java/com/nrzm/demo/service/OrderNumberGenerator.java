@@ -0,0 +1,76 @@
+package com.nrzm.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 주문번호 생성기 (DB 조회 없음, lock-free).
+ * 64비트 값 = 기준 시각 이후 밀리초(41비트) | 노드 id(10비트) | 같은 밀리초 내 순번(12비트)
+ * <ul>
+ *     <li>order.number.node-id (0~1023) 를 노드마다 다르게 설정하면 여러 서버 간에도 중복되지 않습니다.</li>
+ *     <li>19자리로 0 을 채운 10진수 문자열이므로 문자열 정렬이 생성 시각 순서와 대체로 같습니다.</li>
+ *     <li>한 밀리초에 4096개를 넘으면 다음 밀리초 값을 미리 사용하고, 시계가 뒤로 가도 마지막 값 이후부터 발급합니다.</li>
+ * </ul>
+ */
+@Component
+public class OrderNumberGenerator {
+
+    static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong(); // (경과 밀리초 << SEQUENCE_BITS) | 순번
+
+    @Autowired
+    public OrderNumberGenerator(@Value("${order.number.node-id:0}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    OrderNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.number.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long elapsed = clock.getAsLong() - EPOCH_MILLIS;
+            long lastElapsed = last >>> SEQUENCE_BITS;
+
+            long next;
+            if (elapsed > lastElapsed) {
+                next = elapsed << SEQUENCE_BITS;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = last + 1;
+            } else {
+                next = (lastElapsed + 1) << SEQUENCE_BITS; // 순번 소진: 다음 밀리초로 넘어감
+            }
+
+            if (lastState.compareAndSet(last, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | nodeId << SEQUENCE_BITS
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public String nextOrderNumber() {
+        return format(nextId());
+    }
+
+    static String format(long id) {
+        String digits = Long.toString(id);
+        return "0".repeat(19 - digits.length()) + digits;
+    }
+}
@@ -0,0 +1,152 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.config.TransactionHooks;
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.OrderItemDTO;
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.entity.OrderItem;
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.OrderRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 측 주문 생성. 상품 가격으로 금액을 계산하고, 조건부 UPDATE 로 재고를 차감한 뒤 주문/주문상품을 한 트랜잭션으로 저장합니다.
+ */
+@Service
+public class OrderPlacementService {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+    @Autowired
+    private SalesRollupStore salesRollupStore;
+    @Autowired
+    private OrderReportEngine orderReportEngine;
+
+    @Transactional
+    public OrderDTO placeOrder(Long memberId, PlaceOrderRequest request) {
+        Map<Long, Integer> quantities = mergeLines(request);
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        for (Long productId : quantities.keySet()) {
+            if (!products.containsKey(productId)) {
+                throw new InvalidOrderException("존재하지 않는 상품입니다. productId=" + productId);
+            }
+        }
+
+        if (inventoryLedger.isEnabled()) {
+            return placeWithLedger(memberId, quantities, products);
+        }
+
+        // 상품 id 오름차순으로 차감하여 동시 주문 간 행 잠금 순서를 고정 (교착 방지)
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            // 재고가 충분할 때만 차감 (0건이면 재고 부족, 예외로 트랜잭션 전체 롤백)
+            if (productRepository.decrementStock(line.getKey(), line.getValue()) == 0) {
+                throw new InsufficientStockException(line.getKey());
+            }
+        }
+
+        OrderDTO order = saveOrder(memberId, quantities, products);
+        productService.evictProducts(quantities.keySet());
+        return order;
+    }
+
+    // 재고 원장 사용: DB 재고 행을 잠그지 않고 메모리에서 예약, 커밋 후 확정 (재고 반영은 원장이 비동기로 처리)
+    private OrderDTO placeWithLedger(Long memberId, Map<Long, Integer> quantities, Map<Long, Product> products) {
+        List<InventoryLedger.Hold> holds = inventoryLedger.reserveAll(quantities);
+        // 롤백되면 hold-ttl 까지 기다리지 않고 바로 해제 (완료 상태를 알 수 없으면 hold-ttl 후 자동 해제)
+        TransactionHooks.afterCommit(() -> holds.forEach(inventoryLedger::confirm));
+        TransactionHooks.afterRollback(() -> holds.forEach(inventoryLedger::release));
+
+        OrderDTO order = saveOrder(memberId, quantities, products);
+        inventoryLedger.recordSale(quantities); // 주문과 함께 커밋되므로 flush 전에 비정상 종료되어도 차감분이 남음
+        return order;
+    }
+
+    private OrderDTO saveOrder(Long memberId, Map<Long, Integer> quantities, Map<Long, Product> products) {
+
+        Order order = new Order();
+        order.setMember(memberRepository.getReferenceById(memberId));
+        order.setOrderNumber(orderNumberGenerator.nextOrderNumber());
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus(Order.OrderStatus.PENDING);
+
+        List<OrderItem> items = new ArrayList<>(quantities.size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            Product product = products.get(line.getKey());
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(line.getValue());
+            item.setPrice(product.getPrice());
+            items.add(item);
+            total = total.add(product.getPrice().multiply(BigDecimal.valueOf(line.getValue())));
+        }
+        order.setOrderItems(items);
+        order.setTotalAmount(total);
+
+        Order savedOrder = orderRepository.save(order);
+        salesRollupStore.replaceAfterCommit(savedOrder.getOrderId(), null, SalesRollupStore.contributionOf(savedOrder));
+        orderReportEngine.markChangedAfterCommit(savedOrder.getOrderId()); // id 순서와 커밋 순서가 다를 수 있으므로 생성도 통지
+        return toOrderDTO(savedOrder);
+    }
+
+    private Map<Long, Integer> mergeLines(PlaceOrderRequest request) {
+        if (request == null || request.lines() == null || request.lines().isEmpty()) {
+            throw new InvalidOrderException("주문 상품이 없습니다.");
+        }
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (PlaceOrderRequest.Line line : request.lines()) {
+            if (line == null || line.productId() == null || line.quantity() <= 0) {
+                throw new InvalidOrderException("상품 id 와 1 이상의 수량이 필요합니다.");
+            }
+            quantities.merge(line.productId(), line.quantity(), Math::addExact);
+        }
+        return quantities;
+    }
+
+    private OrderDTO toOrderDTO(Order order) {
+        OrderDTO dto = new OrderDTO();
+        dto.setId(order.getOrderId());
+        dto.setOrderNumber(order.getOrderNumber());
+        dto.setOrderDate(order.getOrderDate());
+        dto.setStatus(order.getStatus());
+        dto.setStatusKo(order.getStatus().getDescription());
+        dto.setTotalAmount(order.getTotalAmount());
+        dto.setVersion(order.getVersion());
+        dto.setOrderItems(order.getOrderItems().stream().map(item -> {
+            OrderItemDTO itemDTO = new OrderItemDTO();
+            itemDTO.setId(item.getOrderItemId());
+            itemDTO.setProductId(item.getProduct().getProductId());
+            itemDTO.setProductName(item.getProduct().getName());
+            itemDTO.setQuantity(item.getQuantity());
+            itemDTO.setPrice(item.getPrice());
+            return itemDTO;
+        }).toList());
+        return dto;
+    }
+}
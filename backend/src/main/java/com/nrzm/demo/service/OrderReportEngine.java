@@ -0,0 +1,667 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.config.TransactionHooks;
+import com.nrzm.demo.dto.OrderReport;
+import com.nrzm.demo.dto.OrderReportRow;
+import com.nrzm.demo.dto.OrderReportSourceRow;
+import com.nrzm.demo.entity.Order.OrderStatus;
+import com.nrzm.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * 주문/주문상품/상품 데이터를 열 단위 기본형 배열로 복사한 읽기 전용 스냅샷에서 임의의 그룹/필터 리포트를 계산합니다.
+ * <ul>
+ *     <li>지역(회원 주소의 첫 단어), 상품 id, 분류 id 는 사전 코드(int)로, 금액은 1/100 단위 long 으로 저장합니다.</li>
+ *     <li>조회는 행 구간을 나누어 ForkJoin 공용 풀에서 병렬로 스캔합니다. 한 주문의 행은 한 구간에만 속하도록 나눕니다.</li>
+ *     <li>갱신은 이전 스냅샷의 가장 큰 주문 id 이후의 주문과, 커밋 후 변경 통지된 주문(수정/삭제/늦게 커밋된 생성)만 다시 읽어
+ *     새 스냅샷을 만듭니다. 변경된 주문의 기존 행은 삭제 표시하고, 삭제 표시가 많아지면 전체를 다시 적재합니다.</li>
+ *     <li>주문상품이 없거나 상태가 없는 주문은 포함하지 않습니다. 애플리케이션을 거치지 않은 DB 변경은 전체 갱신 때 반영됩니다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class OrderReportEngine {
+
+    public enum Dimension {
+        DAY, MONTH, STATUS, CATEGORY, PRODUCT, REGION
+    }
+
+    /**
+     * 조회 조건. null 인 항목은 조건 없음, from/to 는 주문일 기준 (둘 다 포함)
+     */
+    public record Filter(LocalDate from, LocalDate to, Set<OrderStatus> statuses, Integer categoryId, Long productId, String region) {
+    }
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final String UNKNOWN_REGION = "기타";
+    private static final long DENSE_GROUP_LIMIT = 1 << 14; // 그룹 수가 이하이면 배열, 초과하면 해시 맵으로 집계
+    private static final int ID_BATCH_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean buildOnStartup;
+    private final int scanChunkRows;
+
+    private volatile Snapshot snapshot;
+    private final Set<Long> changedOrderIds = ConcurrentHashMap.newKeySet();
+
+    public OrderReportEngine(OrderRepository orderRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${report.build-on-startup:true}") boolean buildOnStartup,
+                             @Value("${report.scan-chunk-rows:16384}") int scanChunkRows) {
+        this.orderRepository = orderRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.buildOnStartup = buildOnStartup;
+        this.scanChunkRows = Math.max(scanChunkRows, 1);
+
+        Gauge.builder("report.snapshot.rows", this, engine -> engine.snapshot != null ? engine.snapshot.size - engine.snapshot.deletedRows : 0)
+                .description("주문 리포트 스냅샷의 유효 주문상품 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주문이 생성/수정/삭제된 경우 커밋 후 다음 갱신 대상에 추가합니다.
+     */
+    public void markChangedAfterCommit(Long orderId) {
+        if (orderId != null) {
+            TransactionHooks.afterCommit(() -> changedOrderIds.add(orderId));
+        }
+    }
+
+    public OrderReport query(Set<Dimension> groupBy, Filter filter) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh(false);
+            current = snapshot;
+        }
+
+        Plan plan = new Plan(current, groupBy, filter);
+        List<OrderReportRow> rows = plan.empty
+                ? List.of()
+                : plan.toRows(current, ForkJoinPool.commonPool().invoke(new ScanTask(current, plan, 0, current.size, scanChunkRows)));
+        return new OrderReport(current.builtAt, current.highWaterOrderId, current.size - current.deletedRows, rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (buildOnStartup) {
+            refresh(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.refresh-interval-millis:60000}", initialDelayString = "${report.refresh-interval-millis:60000}")
+    public void scheduledRefresh() {
+        if (snapshot != null) {
+            refresh(false);
+        }
+    }
+
+    /**
+     * 새 스냅샷을 만들어 교체합니다. 진행 중인 조회는 이전 스냅샷을 계속 사용합니다.
+     *
+     * @param full true 이면 증분 없이 전체를 다시 적재
+     */
+    public synchronized void refresh(boolean full) {
+        long started = System.nanoTime();
+        Snapshot current = snapshot;
+        Set<Long> changed = new HashSet<>(changedOrderIds);
+        changedOrderIds.removeAll(changed);
+
+        try {
+            // 삭제 표시가 1/4 을 넘으면 스캔 낭비가 커지므로 전체 재적재로 압축
+            if (full || current == null || current.deletedRows + changed.size() > Math.max(current.size / 4, ID_BATCH_SIZE)) {
+                Builder builder = new Builder(1024);
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<OrderReportSourceRow> rows = orderRepository.streamReportRowsAfter(0L)) {
+                        rows.forEach(builder::append);
+                    }
+                });
+                snapshot = builder.build();
+            } else {
+                long afterId = current.highWaterOrderId;
+                // 이전 스냅샷 이후 주문은 id 범위로, 그 이전 주문 중 변경된 것은 id 목록으로 다시 읽음
+                List<Long> reloadIds = changed.stream().filter(id -> id <= afterId).toList();
+                List<OrderReportSourceRow> rows = readOnlyTransaction.execute(status -> {
+                    List<OrderReportSourceRow> loaded;
+                    try (Stream<OrderReportSourceRow> newRows = orderRepository.streamReportRowsAfter(afterId)) {
+                        loaded = new ArrayList<>(newRows.toList());
+                    }
+                    for (int i = 0; i < reloadIds.size(); i += ID_BATCH_SIZE) {
+                        loaded.addAll(orderRepository.findReportRowsByOrderIds(reloadIds.subList(i, Math.min(i + ID_BATCH_SIZE, reloadIds.size()))));
+                    }
+                    return loaded;
+                });
+                if (rows.isEmpty() && changed.isEmpty()) {
+                    return;
+                }
+
+                Builder builder = Builder.from(current, rows.size());
+                builder.delete(changed);
+                rows.forEach(builder::append);
+                snapshot = builder.build();
+            }
+        } catch (RuntimeException e) {
+            changedOrderIds.addAll(changed); // 다음 갱신에서 다시 시도
+            throw e;
+        }
+
+        Snapshot next = snapshot;
+        log.info("Order report snapshot refreshed: {} rows ({} deleted), highWaterOrderId={}, {} ms",
+                next.size, next.deletedRows, next.highWaterOrderId, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 값 -> 0 부터 시작하는 코드. 스냅샷에 넘긴 뒤에는 변경하지 않고, 다음 스냅샷은 복사본에 추가합니다.
+     */
+    private static final class Dictionary<T> {
+        final List<T> values;
+        final Map<T, Integer> codes;
+
+        Dictionary() {
+            this(new ArrayList<>(), new HashMap<>());
+        }
+
+        private Dictionary(List<T> values, Map<T, Integer> codes) {
+            this.values = values;
+            this.codes = codes;
+        }
+
+        Dictionary<T> copy() {
+            return new Dictionary<>(new ArrayList<>(values), new HashMap<>(codes));
+        }
+
+        int encode(T value) {
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int find(T value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        T decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    private static final class Snapshot {
+        final int size;
+        final long[] orderId;      // 한 주문의 행은 연속으로 위치
+        final int[] day;           // epochDay
+        final int[] month;         // year * 12 + (month - 1)
+        final byte[] status;       // OrderStatus.ordinal()
+        final int[] category;
+        final int[] product;
+        final int[] region;
+        final int[] quantity;
+        final long[] amountCents;  // 가격 x 수량
+        final long[] deleted;      // 삭제 표시 비트 (행 번호)
+        final int deletedRows;
+        final Dictionary<Integer> categories;
+        final Dictionary<Long> products;
+        final Dictionary<String> regions;
+        final int minDay;
+        final int maxDay;
+        final long highWaterOrderId;
+        final LocalDateTime builtAt;
+
+        Snapshot(Builder builder) {
+            this.size = builder.size;
+            this.orderId = builder.orderId;
+            this.day = builder.day;
+            this.month = builder.month;
+            this.status = builder.status;
+            this.category = builder.category;
+            this.product = builder.product;
+            this.region = builder.region;
+            this.quantity = builder.quantity;
+            this.amountCents = builder.amountCents;
+            this.deleted = builder.deleted;
+            this.deletedRows = builder.deletedRows;
+            this.categories = builder.categories;
+            this.products = builder.products;
+            this.regions = builder.regions;
+            this.minDay = builder.minDay;
+            this.maxDay = builder.maxDay;
+            this.highWaterOrderId = builder.highWaterOrderId;
+            this.builtAt = LocalDateTime.now();
+        }
+
+        boolean isDeleted(int row) {
+            return (deleted[row >>> 6] & (1L << row)) != 0;
+        }
+    }
+
+    private static final class Builder {
+        int size;
+        long[] orderId;
+        int[] day;
+        int[] month;
+        byte[] status;
+        int[] category;
+        int[] product;
+        int[] region;
+        int[] quantity;
+        long[] amountCents;
+        long[] deleted;
+        int deletedRows;
+        Dictionary<Integer> categories = new Dictionary<>();
+        Dictionary<Long> products = new Dictionary<>();
+        Dictionary<String> regions = new Dictionary<>();
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        long highWaterOrderId;
+
+        Builder(int capacity) {
+            orderId = new long[capacity];
+            day = new int[capacity];
+            month = new int[capacity];
+            status = new byte[capacity];
+            category = new int[capacity];
+            product = new int[capacity];
+            region = new int[capacity];
+            quantity = new int[capacity];
+            amountCents = new long[capacity];
+            deleted = new long[(capacity + 63) >>> 6];
+        }
+
+        // 이전 스냅샷의 배열은 공유하지 않고 복사 (조회 중인 스냅샷이 바뀌지 않도록)
+        static Builder from(Snapshot previous, int extraRows) {
+            Builder builder = new Builder(0);
+            int capacity = previous.size + extraRows;
+            builder.size = previous.size;
+            builder.orderId = Arrays.copyOf(previous.orderId, capacity);
+            builder.day = Arrays.copyOf(previous.day, capacity);
+            builder.month = Arrays.copyOf(previous.month, capacity);
+            builder.status = Arrays.copyOf(previous.status, capacity);
+            builder.category = Arrays.copyOf(previous.category, capacity);
+            builder.product = Arrays.copyOf(previous.product, capacity);
+            builder.region = Arrays.copyOf(previous.region, capacity);
+            builder.quantity = Arrays.copyOf(previous.quantity, capacity);
+            builder.amountCents = Arrays.copyOf(previous.amountCents, capacity);
+            builder.deleted = Arrays.copyOf(previous.deleted, (capacity + 63) >>> 6);
+            builder.deletedRows = previous.deletedRows;
+            builder.categories = previous.categories.copy();
+            builder.products = previous.products.copy();
+            builder.regions = previous.regions.copy();
+            builder.minDay = previous.minDay;
+            builder.maxDay = previous.maxDay;
+            builder.highWaterOrderId = previous.highWaterOrderId;
+            return builder;
+        }
+
+        void append(OrderReportSourceRow row) {
+            if (row.orderDate() == null || row.status() == null) {
+                return;
+            }
+            ensureCapacity(size + 1);
+            int epochDay = (int) row.orderDate().toLocalDate().toEpochDay();
+            int qty = row.quantity() != null ? row.quantity() : 0;
+
+            orderId[size] = row.orderId();
+            day[size] = epochDay;
+            month[size] = row.orderDate().getYear() * 12 + row.orderDate().getMonthValue() - 1;
+            status[size] = (byte) row.status().ordinal();
+            category[size] = categories.encode(row.categoryId());
+            product[size] = products.encode(row.productId());
+            region[size] = regions.encode(regionOf(row.memberAddress()));
+            quantity[size] = qty;
+            amountCents[size] = row.price() != null
+                    ? row.price().multiply(BigDecimal.valueOf(qty)).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact()
+                    : 0;
+            size++;
+
+            minDay = Math.min(minDay, epochDay);
+            maxDay = Math.max(maxDay, epochDay);
+            highWaterOrderId = Math.max(highWaterOrderId, row.orderId());
+        }
+
+        // 주문 id 가 바뀐 주문의 기존 행에 삭제 표시 (다시 읽은 행은 뒤에 추가됨)
+        void delete(Set<Long> orderIds) {
+            if (orderIds.isEmpty()) {
+                return;
+            }
+            for (int row = 0; row < size; row++) {
+                long bit = 1L << row;
+                if ((deleted[row >>> 6] & bit) == 0 && orderIds.contains(orderId[row])) {
+                    deleted[row >>> 6] |= bit;
+                    deletedRows++;
+                }
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= orderId.length) {
+                return;
+            }
+            int capacity = Math.max(required, Math.max(1024, orderId.length * 2));
+            orderId = Arrays.copyOf(orderId, capacity);
+            day = Arrays.copyOf(day, capacity);
+            month = Arrays.copyOf(month, capacity);
+            status = Arrays.copyOf(status, capacity);
+            category = Arrays.copyOf(category, capacity);
+            product = Arrays.copyOf(product, capacity);
+            region = Arrays.copyOf(region, capacity);
+            quantity = Arrays.copyOf(quantity, capacity);
+            amountCents = Arrays.copyOf(amountCents, capacity);
+            deleted = Arrays.copyOf(deleted, (capacity + 63) >>> 6);
+        }
+
+        Snapshot build() {
+            return new Snapshot(this);
+        }
+
+        private static String regionOf(String address) {
+            if (address == null || address.isBlank()) {
+                return UNKNOWN_REGION;
+            }
+            String trimmed = address.strip();
+            int space = trimmed.indexOf(' ');
+            return space > 0 ? trimmed.substring(0, space) : trimmed;
+        }
+    }
+
+    /**
+     * 조회 조건을 스냅샷의 코드 값으로 바꾸고, 그룹 기준 값들을 하나의 그룹 번호(혼합 진법)로 합치는 방법을 정합니다.
+     */
+    private static final class Plan {
+        static final int ANY = -1;
+
+        final boolean empty;
+        final int dayLo;
+        final int dayHi;
+        final int statusMask;
+        final int categoryCode;
+        final int productCode;
+        final int regionCode;
+
+        final Dimension[] dimensions;
+        final int[][] columns;  // 기준별 열 (STATUS 는 byte[] 이므로 null)
+        final int[] base;
+        final long[] cardinality;
+        final long[] stride;
+        final long groups;
+
+        Plan(Snapshot snapshot, Set<Dimension> groupBy, Filter filter) {
+            int lo = snapshot.minDay;
+            int hi = snapshot.maxDay;
+            if (filter.from() != null) {
+                lo = (int) Math.max(lo, filter.from().toEpochDay());
+            }
+            if (filter.to() != null) {
+                hi = (int) Math.min(hi, filter.to().toEpochDay());
+            }
+            this.dayLo = lo;
+            this.dayHi = hi;
+
+            int mask = 0;
+            for (OrderStatus status : filter.statuses() == null || filter.statuses().isEmpty() ? Set.of(STATUSES) : filter.statuses()) {
+                mask |= 1 << status.ordinal();
+            }
+            this.statusMask = mask;
+            this.categoryCode = filter.categoryId() != null ? snapshot.categories.find(filter.categoryId()) : ANY;
+            this.productCode = filter.productId() != null ? snapshot.products.find(filter.productId()) : ANY;
+            this.regionCode = filter.region() != null ? snapshot.regions.find(filter.region()) : ANY;
+            // 사전에 없는 값으로 거르면 결과 없음
+            this.empty = lo > hi
+                    || (filter.categoryId() != null && categoryCode < 0)
+                    || (filter.productId() != null && productCode < 0)
+                    || (filter.region() != null && regionCode < 0);
+
+            this.dimensions = groupBy.stream().sorted().toArray(Dimension[]::new);
+            this.columns = new int[dimensions.length][];
+            this.base = new int[dimensions.length];
+            this.cardinality = new long[dimensions.length];
+            for (int i = 0; i < dimensions.length; i++) {
+                switch (dimensions[i]) {
+                    case DAY -> {
+                        columns[i] = snapshot.day;
+                        base[i] = lo;
+                        cardinality[i] = Math.max(hi - lo + 1, 1);
+                    }
+                    case MONTH -> {
+                        columns[i] = snapshot.month;
+                        base[i] = monthOf(lo);
+                        cardinality[i] = Math.max(monthOf(hi) - monthOf(lo) + 1, 1);
+                    }
+                    case STATUS -> cardinality[i] = STATUSES.length;
+                    case CATEGORY -> {
+                        columns[i] = snapshot.category;
+                        cardinality[i] = Math.max(snapshot.categories.size(), 1);
+                    }
+                    case PRODUCT -> {
+                        columns[i] = snapshot.product;
+                        cardinality[i] = Math.max(snapshot.products.size(), 1);
+                    }
+                    case REGION -> {
+                        columns[i] = snapshot.region;
+                        cardinality[i] = Math.max(snapshot.regions.size(), 1);
+                    }
+                }
+            }
+
+            this.stride = new long[dimensions.length];
+            long total = 1;
+            for (int i = dimensions.length - 1; i >= 0; i--) {
+                stride[i] = total;
+                total = Math.multiplyExact(total, cardinality[i]);
+            }
+            this.groups = total;
+        }
+
+        long group(Snapshot snapshot, int row) {
+            long group = 0;
+            for (int i = 0; i < columns.length; i++) {
+                int code = columns[i] != null ? columns[i][row] : snapshot.status[row];
+                group += (code - base[i]) * stride[i];
+            }
+            return group;
+        }
+
+        Partial newPartial() {
+            return groups <= DENSE_GROUP_LIMIT ? new Partial(new long[(int) groups * Partial.FIELDS], null) : new Partial(null, new HashMap<>());
+        }
+
+        List<OrderReportRow> toRows(Snapshot snapshot, Partial partial) {
+            List<OrderReportRow> rows = new ArrayList<>();
+            partial.forEach((group, cells, at) -> {
+                LocalDate day = null;
+                YearMonth month = null;
+                OrderStatus status = null;
+                Integer categoryId = null;
+                Long productId = null;
+                String region = null;
+                for (int i = 0; i < dimensions.length; i++) {
+                    int code = (int) ((group / stride[i]) % cardinality[i]) + base[i];
+                    switch (dimensions[i]) {
+                        case DAY -> day = LocalDate.ofEpochDay(code);
+                        case MONTH -> month = YearMonth.of(code / 12, code % 12 + 1);
+                        case STATUS -> status = STATUSES[code];
+                        case CATEGORY -> categoryId = snapshot.categories.decode(code);
+                        case PRODUCT -> productId = snapshot.products.decode(code);
+                        case REGION -> region = snapshot.regions.decode(code);
+                    }
+                }
+                rows.add(new OrderReportRow(day, month, status, categoryId, productId, region,
+                        cells[at + Partial.ORDERS], cells[at + Partial.ITEMS], cells[at + Partial.QUANTITY],
+                        BigDecimal.valueOf(cells[at + Partial.AMOUNT], 2)));
+            });
+            rows.sort(ROW_ORDER);
+            return rows;
+        }
+
+        private static int monthOf(int epochDay) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            return date.getYear() * 12 + date.getMonthValue() - 1;
+        }
+    }
+
+    private static final Comparator<OrderReportRow> ROW_ORDER = Comparator
+            .comparing(OrderReportRow::day, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(OrderReportRow::month, Comparator.nullsFirst(Comparator.<YearMonth>naturalOrder()))
+            .thenComparing(OrderReportRow::status, Comparator.nullsFirst(Comparator.<OrderStatus>naturalOrder()))
+            .thenComparing(OrderReportRow::categoryId, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+            .thenComparing(OrderReportRow::productId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+            .thenComparing(OrderReportRow::region, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
+    /**
+     * 스캔 구간별 부분 집계. 그룹마다 FIELDS 개의 long 을 사용합니다.
+     */
+    private static final class Partial {
+        static final int ORDERS = 0;
+        static final int ITEMS = 1;
+        static final int QUANTITY = 2;
+        static final int AMOUNT = 3;
+        static final int LAST_ORDER = 4; // 같은 주문을 한 번만 세기 위한 마지막 주문 id (주문 id 는 1 이상)
+        static final int FIELDS = 5;
+
+        interface CellConsumer {
+            void accept(long group, long[] cells, int at);
+        }
+
+        final long[] dense;
+        final Map<Long, long[]> sparse;
+
+        Partial(long[] dense, Map<Long, long[]> sparse) {
+            this.dense = dense;
+            this.sparse = sparse;
+        }
+
+        void add(long group, long orderId, int quantity, long amountCents) {
+            long[] cells;
+            int at;
+            if (dense != null) {
+                cells = dense;
+                at = (int) group * FIELDS;
+            } else {
+                cells = sparse.computeIfAbsent(group, key -> new long[FIELDS]);
+                at = 0;
+            }
+            // 한 주문의 행은 연속이므로 그룹별 마지막 주문 id 와 다를 때만 주문 수 증가
+            if (cells[at + LAST_ORDER] != orderId) {
+                cells[at + LAST_ORDER] = orderId;
+                cells[at + ORDERS]++;
+            }
+            cells[at + ITEMS]++;
+            cells[at + QUANTITY] += quantity;
+            cells[at + AMOUNT] += amountCents;
+        }
+
+        // 구간은 주문 경계에서 나뉘므로 주문 수도 그대로 더하면 됨
+        Partial merge(Partial other) {
+            if (dense != null) {
+                for (int at = 0; at < dense.length; at += FIELDS) {
+                    for (int field = ORDERS; field <= AMOUNT; field++) {
+                        dense[at + field] += other.dense[at + field];
+                    }
+                }
+            } else {
+                other.sparse.forEach((group, cells) -> sparse.merge(group, cells, (mine, theirs) -> {
+                    for (int field = ORDERS; field <= AMOUNT; field++) {
+                        mine[field] += theirs[field];
+                    }
+                    return mine;
+                }));
+            }
+            return this;
+        }
+
+        void forEach(CellConsumer consumer) {
+            if (dense != null) {
+                for (int at = 0; at < dense.length; at += FIELDS) {
+                    if (dense[at + ITEMS] != 0) {
+                        consumer.accept(at / FIELDS, dense, at);
+                    }
+                }
+            } else {
+                sparse.forEach((group, cells) -> consumer.accept(group, cells, 0));
+            }
+        }
+    }
+
+    private static final class ScanTask extends RecursiveTask<Partial> {
+        private final Snapshot snapshot;
+        private final Plan plan;
+        private final int lo;
+        private final int hi;
+        private final int chunkRows;
+
+        ScanTask(Snapshot snapshot, Plan plan, int lo, int hi, int chunkRows) {
+            this.snapshot = snapshot;
+            this.plan = plan;
+            this.lo = lo;
+            this.hi = hi;
+            this.chunkRows = chunkRows;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (hi - lo > chunkRows) {
+                // 한 주문의 행이 두 구간에 걸치지 않도록 분할 위치를 주문 경계로 이동
+                int mid = lo + (hi - lo) / 2;
+                while (mid < hi && snapshot.orderId[mid] == snapshot.orderId[mid - 1]) {
+                    mid++;
+                }
+                if (mid < hi) {
+                    ScanTask left = new ScanTask(snapshot, plan, lo, mid, chunkRows);
+                    left.fork();
+                    Partial right = new ScanTask(snapshot, plan, mid, hi, chunkRows).compute();
+                    return left.join().merge(right);
+                }
+            }
+            return scan();
+        }
+
+        private Partial scan() {
+            Partial partial = plan.newPartial();
+            for (int row = lo; row < hi; row++) {
+                int day = snapshot.day[row];
+                if (snapshot.isDeleted(row)
+                        || day < plan.dayLo || day > plan.dayHi
+                        || (plan.statusMask & (1 << snapshot.status[row])) == 0
+                        || (plan.categoryCode != Plan.ANY && snapshot.category[row] != plan.categoryCode)
+                        || (plan.productCode != Plan.ANY && snapshot.product[row] != plan.productCode)
+                        || (plan.regionCode != Plan.ANY && snapshot.region[row] != plan.regionCode)) {
+                    continue;
+                }
+                partial.add(plan.group(snapshot, row), snapshot.orderId[row], snapshot.quantity[row], snapshot.amountCents[row]);
+            }
+            return partial;
+        }
+    }
+}
@@ -1,28 +1,132 @@
 package com.nrzm.demo.service;
 
-import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.dto.CursorPage;
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.OrderItemDTO;
+import com.nrzm.demo.dto.OrderItemSummary;
+import com.nrzm.demo.dto.OrderPatch;
+import com.nrzm.demo.dto.OrderSummary;
+import com.nrzm.demo.dto.PageCursor;
+import com.nrzm.demo.dto.PatchResult;
 import com.nrzm.demo.entity.Order;
 import com.nrzm.demo.repository.OrderRepository;
+import com.nrzm.demo.repository.VersionedUpdate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class OrderService {
 
     @Autowired
     private OrderRepository orderRepository;
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+    @Autowired
+    private SalesRollupStore salesRollupStore;
+    @Autowired
+    private OrderReportEngine orderReportEngine;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public Page<OrderDTO> getAllOrders(Pageable pageable) {
+        return toOrderDTOPage(orderRepository.findSummaries(pageable));
+    }
 
     @Transactional(readOnly = true)
-    public Page<Order> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+    public Page<OrderDTO> getAllOrdersByMember(Long memberId, Pageable pageable) {
+        return toOrderDTOPage(orderRepository.findSummariesByMemberId(memberId, pageable));
     }
 
     @Transactional(readOnly = true)
-    public Page<Order> getAllOrdersByMember(Member member, Pageable pageable) {
-        return orderRepository.findAllByMember(member, pageable);
+    public CursorPage<OrderDTO> getOrdersAfter(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<OrderSummary> summaries = after == null
+                ? orderRepository.findSummariesFirst(limit)
+                : orderRepository.findSummariesAfter(after.timestamp(), after.id(), limit);
+        return toOrderDTOCursorPage(summaries, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderDTO> getOrdersByMemberAfter(Long memberId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<OrderSummary> summaries = after == null
+                ? orderRepository.findSummariesByMemberIdFirst(memberId, limit)
+                : orderRepository.findSummariesByMemberIdAfter(memberId, after.timestamp(), after.id(), limit);
+        return toOrderDTOCursorPage(summaries, size);
+    }
+
+    private CursorPage<OrderDTO> toOrderDTOCursorPage(List<OrderSummary> summaries, int size) {
+        boolean hasNext = summaries.size() > size;
+        List<OrderSummary> content = hasNext ? summaries.subList(0, size) : summaries;
+        if (content.isEmpty()) {
+            return new CursorPage<>(Collections.emptyList(), size, false, null);
+        }
+
+        List<OrderItemSummary> items = orderRepository.findItemSummariesByOrderIds(content.stream().map(OrderSummary::orderId).toList());
+        OrderSummary last = content.get(content.size() - 1);
+        String nextCursor = hasNext ? new PageCursor(last.orderDate(), last.orderId()).encode() : null;
+        return new CursorPage<>(toOrderDTOs(content, items), size, hasNext, nextCursor);
+    }
+
+    // 페이지의 주문상품을 한 번에 조회해 주문별로 묶음 (엔티티 연관관계를 따라가지 않으므로 N+1 없음)
+    private Page<OrderDTO> toOrderDTOPage(Page<OrderSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), summaries.getPageable(), summaries.getTotalElements());
+        }
+
+        List<Long> orderIds = summaries.getContent().stream().map(OrderSummary::orderId).toList();
+        List<OrderItemSummary> items = orderRepository.findItemSummariesByOrderIds(orderIds);
+        return new PageImpl<>(toOrderDTOs(summaries.getContent(), items), summaries.getPageable(), summaries.getTotalElements());
+    }
+
+    private List<OrderDTO> toOrderDTOs(List<OrderSummary> summaries, List<OrderItemSummary> items) {
+        Map<Long, List<OrderItemDTO>> itemsByOrderId = new HashMap<>();
+        for (OrderItemSummary item : items) {
+            itemsByOrderId.computeIfAbsent(item.orderId(), id -> new ArrayList<>()).add(toOrderItemDTO(item));
+        }
+
+        List<OrderDTO> orderDTOs = new ArrayList<>(summaries.size());
+        for (OrderSummary summary : summaries) {
+            OrderDTO dto = new OrderDTO();
+            dto.setId(summary.orderId());
+            dto.setOrderNumber(summary.orderNumber());
+            dto.setOrderDate(summary.orderDate());
+            dto.setUsername(summary.username());
+            dto.setStatus(summary.status());
+            dto.setTotalAmount(summary.totalAmount());
+            dto.setStatusKo(summary.status() != null ? summary.status().getDescription() : null);
+            dto.setOrderItems(itemsByOrderId.getOrDefault(summary.orderId(), new ArrayList<>()));
+            dto.setVersion(summary.version());
+            orderDTOs.add(dto);
+        }
+        return orderDTOs;
+    }
+
+    private OrderItemDTO toOrderItemDTO(OrderItemSummary item) {
+        OrderItemDTO itemDTO = new OrderItemDTO();
+        itemDTO.setId(item.orderItemId());
+        itemDTO.setProductId(item.productId());
+        itemDTO.setProductName(item.productName());
+        itemDTO.setQuantity(item.quantity());
+        itemDTO.setPrice(item.price());
+        return itemDTO;
     }
 
     @Transactional(readOnly = true)
@@ -32,11 +136,52 @@ public class OrderService {
 
     @Transactional
     public Order saveOrder(Order order) {
-        return orderRepository.save(order);
+        if (order.getOrderDate() == null) {
+            order.setOrderDate(LocalDateTime.now()); // 커서 목록의 정렬 키
+        }
+        if (order.getOrderNumber() == null || order.getOrderNumber().isBlank()) {
+            order.setOrderNumber(orderNumberGenerator.nextOrderNumber());
+        }
+
+        Order existing = order.getOrderId() != null ? orderRepository.findById(order.getOrderId()).orElse(null) : null;
+        // 수정이면 병합으로 값이 덮어써지기 전에 기존 집계 기여분을 복사해 둠
+        SalesRollupStore.OrderContribution before = SalesRollupStore.contributionOf(existing);
+        if (existing != null && order.getVersion() == null) {
+            order.setVersion(existing.getVersion()); // version 없이 보낸 전체 수정(PUT)은 기존처럼 마지막 저장 반영
+        }
+        Order savedOrder = orderRepository.save(order);
+        salesRollupStore.replaceAfterCommit(savedOrder.getOrderId(), before, SalesRollupStore.contributionOf(savedOrder));
+        orderReportEngine.markChangedAfterCommit(savedOrder.getOrderId());
+        return savedOrder;
+    }
+
+    /**
+     * 보낸 필드만 UPDATE 한 번으로 변경합니다 (version 불일치 시 ObjectOptimisticLockingFailureException).
+     */
+    @Transactional
+    public PatchResult patchOrder(Long id, OrderPatch patch) {
+        // 상태가 바뀌면 판매 집계를 옮겨야 하므로 이때만 집계용 행을 먼저 조회
+        // (UPDATE 의 version 조건이 통과하면 조회 시점 이후 변경이 없었음이 보장됨)
+        SalesRollupStore.OrderContribution before = patch.status() != null
+                ? SalesRollupStore.contributionOf(orderRepository.findRollupRows(id, id))
+                : null;
+
+        long version = VersionedUpdate.of(entityManager, Order.class, "orderId", id, patch.version())
+                .set("status", patch.status())
+                .execute();
+
+        if (before != null) {
+            salesRollupStore.replaceAfterCommit(id, before, before.withStatus(patch.status()));
+        }
+        orderReportEngine.markChangedAfterCommit(id);
+        return new PatchResult(id, version);
     }
 
     @Transactional
     public void deleteOrder(Long id) {
+        orderRepository.findById(id).ifPresent(order ->
+                salesRollupStore.replaceAfterCommit(id, SalesRollupStore.contributionOf(order), null));
+        orderReportEngine.markChangedAfterCommit(id);
         orderRepository.deleteById(id);
     }
 }
\ No newline at end of file
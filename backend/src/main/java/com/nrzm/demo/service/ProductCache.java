@@ -0,0 +1,133 @@
+package com.nrzm.demo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nrzm.demo.config.TransactionHooks;
+import com.nrzm.demo.entity.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상품 단건/목록 페이지 조회 캐시.
+ * 상품을 변경하는 코드는 커밋 후 무효화되도록 evict* 메서드를 호출해야 합니다.
+ * <p>
+ * 무효화 직전에 DB 를 읽은 조회가 무효화 이후 캐시에 넣는 경우를 막기 위해, 무효화마다 세대(generation)를 올리고
+ * 적재 도중 세대가 바뀌었으면 적재한 값을 캐시에서 제거합니다 (TTL 까지 이전 값이 남지 않도록).
+ */
+@Component
+public class ProductCache {
+
+    private final boolean enabled;
+    private final Cache<Long, Optional<Product>> products;
+    private final Cache<Pageable, Page<Product>> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductCache(MeterRegistry meterRegistry,
+                        @Value("${product.cache.enabled:true}") boolean enabled,
+                        @Value("${product.cache.max-size:10000}") long maxSize,
+                        @Value("${product.cache.page-max-size:500}") long pageMaxSize,
+                        @Value("${product.cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl) // 무효화 누락(직접 DB 수정 등)에 대비한 최대 보관 시간
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "product.pages");
+    }
+
+    public Product get(Long id, Function<Long, Optional<Product>> loader) {
+        if (!enabled) {
+            return loader.apply(id).orElse(null);
+        }
+        // 없는 상품도 캐시하여 반복 조회가 DB 로 가지 않도록 함 (생성 시 무효화)
+        return load(products, id, () -> loader.apply(id)).map(ProductCache::copy).orElse(null);
+    }
+
+    public Page<Product> getPage(Pageable pageable, Supplier<Page<Product>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Page<Product> page = load(pages, pageable, loader);
+        // 캐시 원본이 호출 측에서 변경되지 않도록 사본 반환
+        return new PageImpl<>(page.getContent().stream().map(ProductCache::copy).toList(),
+                page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * 기존 상품의 내용(가격, 재고 등)이 바뀐 경우: 해당 상품과 그 상품을 포함한 페이지만 무효화합니다.
+     * 정렬된 페이지는 정렬 기준 값이 바뀌어 위치가 달라질 수 있으므로 함께 무효화합니다.
+     */
+    public void evictUpdatedAfterCommit(Collection<Long> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(ids);
+        TransactionHooks.afterCommit(() -> {
+            generation.incrementAndGet(); // 무효화보다 먼저 (진행 중인 적재가 반영하지 않도록)
+            products.invalidateAll(keys);
+            pages.asMap().entrySet().removeIf(entry -> entry.getKey().getSort().isSorted()
+                    || entry.getValue().getContent().stream().anyMatch(product -> keys.contains(product.getProductId())));
+        });
+    }
+
+    /**
+     * 상품이 추가/삭제된 경우: 전체 건수와 이후 페이지 구성이 모두 바뀌므로 모든 페이지를 무효화합니다.
+     */
+    public void evictInsertedOrDeletedAfterCommit(Collection<Long> ids) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> keys = List.copyOf(ids);
+        TransactionHooks.afterCommit(() -> {
+            generation.incrementAndGet();
+            products.invalidateAll(keys); // 생성 전에 조회되어 캐시된 '없음'도 제거
+            pages.invalidateAll();
+        });
+    }
+
+    // 세대를 먼저 읽고 적재하므로, 세대가 같으면 마지막 무효화(커밋 이후) 뒤에 읽은 값
+    private <K, V> V load(Cache<K, V> cache, K key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        V value = cache.get(key, k -> loader.get());
+        if (value != null && generation.get() != loadGeneration) {
+            cache.asMap().remove(key, value);
+        }
+        return value;
+    }
+
+    private static Product copy(Product source) {
+        Product product = new Product();
+        product.setProductId(source.getProductId());
+        product.setName(source.getName());
+        product.setDescription(source.getDescription());
+        product.setPrice(source.getPrice());
+        product.setStockQuantity(source.getStockQuantity());
+        product.setCategoryId(source.getCategoryId());
+        product.setVersion(source.getVersion());
+        return product;
+    }
+}
@@ -0,0 +1,257 @@
+package com.nrzm.demo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nrzm.demo.dto.ProductImportBatch;
+import com.nrzm.demo.dto.ProductImportSummary;
+import com.nrzm.demo.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CSV / NDJSON 상품 일괄 등록.
+ * 입력을 한 줄씩 읽어 검증하고 고정 크기 배치 단위 트랜잭션으로 저장하므로, 메모리 사용량은 파일 크기가 아닌 배치 크기에 비례합니다.
+ */
+@Service
+@Slf4j
+public class ProductImportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    static final String[] CSV_HEADER = {"name", "description", "price", "stockQuantity", "categoryId"};
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${product.import.max-batch-size:1000}")
+    private int maxBatchSize;
+    @Value("${product.import.max-errors-per-batch:20}")
+    private int maxErrorsPerBatch;
+
+    /**
+     * @param progress 배치가 끝날 때마다 호출 (응답 스트림에 바로 기록)
+     */
+    public ProductImportSummary importProducts(BufferedReader reader, Format format, int batchSize,
+                                               Consumer<ProductImportBatch> progress) throws IOException {
+        int size = Math.min(Math.max(batchSize, 1), maxBatchSize);
+        BatchState state = new BatchState(size);
+        long lineNumber = 0;
+        String line;
+
+        if (format == Format.CSV) {
+            lineNumber++;
+            String header = reader.readLine();
+            if (header == null || !isExpectedCsvHeader(header)) {
+                return new ProductImportSummary(true, 0, 0, 0, 0,
+                        "CSV 첫 줄은 헤더(" + String.join(",", CSV_HEADER) + ")여야 합니다.");
+            }
+        }
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            state.rows++;
+            try {
+                state.products.add(format == Format.CSV ? parseCsv(line) : parseJson(line));
+            } catch (IllegalArgumentException e) {
+                state.reject(lineNumber, e.getMessage());
+            }
+
+            if (state.products.size() + state.rejectedInBatch >= size) {
+                flush(state, lineNumber, progress);
+            }
+        }
+        if (state.products.size() + state.rejectedInBatch > 0) {
+            flush(state, lineNumber, progress);
+        }
+
+        return new ProductImportSummary(true, state.rows, state.imported, state.rejected, state.batches, null);
+    }
+
+    private void flush(BatchState state, long lastLine, Consumer<ProductImportBatch> progress) {
+        int imported = 0;
+        if (!state.products.isEmpty()) {
+            try {
+                productService.saveProductBatch(state.products);
+                imported = state.products.size();
+            } catch (RuntimeException e) {
+                // 배치 전체가 롤백되므로 해당 배치의 모든 행을 실패로 집계하고 다음 배치를 계속 진행
+                log.warn("Product import batch {} failed", state.batches + 1, e);
+                state.reject(lastLine, "배치 저장 실패: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage(), state.products.size());
+            }
+        }
+
+        state.batches++;
+        state.imported += imported;
+        progress.accept(new ProductImportBatch(state.batches, lastLine, imported, state.rejectedInBatch, List.copyOf(state.errors)));
+
+        state.products.clear();
+        state.errors.clear();
+        state.rejectedInBatch = 0;
+    }
+
+    private boolean isExpectedCsvHeader(String header) {
+        List<String> columns;
+        try {
+            columns = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        } catch (IllegalArgumentException e) {
+            return false; // 닫히지 않은 큰따옴표
+        }
+        if (columns.size() != CSV_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < CSV_HEADER.length; i++) {
+            if (!CSV_HEADER[i].equalsIgnoreCase(columns.get(i).trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Product parseCsv(String line) {
+        List<String> columns = splitCsv(line);
+        if (columns.size() != CSV_HEADER.length) {
+            throw new IllegalArgumentException("컬럼 수가 " + CSV_HEADER.length + "개가 아닙니다: " + columns.size());
+        }
+        return toProduct(columns.get(0), columns.get(1), columns.get(2), columns.get(3), columns.get(4));
+    }
+
+    private Product parseJson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 형식 오류");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        return toProduct(text(node, "name"), text(node, "description"), text(node, "price"),
+                text(node, "stockQuantity"), text(node, "categoryId"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Product toProduct(String name, String description, String price, String stockQuantity, String categoryId) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name 은 필수입니다.");
+        }
+        if (description == null) {
+            throw new IllegalArgumentException("description 은 필수입니다.");
+        }
+
+        Product product = new Product();
+        product.setName(name.trim());
+        product.setDescription(description);
+        product.setPrice(parseDecimal("price", price));
+        product.setStockQuantity(parseNonNegativeInt("stockQuantity", stockQuantity));
+        product.setCategoryId(parseNonNegativeInt("categoryId", categoryId));
+        return product;
+    }
+
+    private static BigDecimal parseDecimal(String field, String value) {
+        try {
+            BigDecimal decimal = new BigDecimal(value.trim());
+            if (decimal.signum() < 0) {
+                throw new IllegalArgumentException(field + " 는 0 이상이어야 합니다.");
+            }
+            return decimal;
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static int parseNonNegativeInt(String field, String value) {
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number < 0) {
+                throw new IllegalArgumentException(field + " 는 0 이상이어야 합니다.");
+            }
+            return number;
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    /**
+     * 한 줄 CSV 분리 (큰따옴표로 감싼 값, "" 이스케이프 지원. 값 안의 줄바꿈은 지원하지 않음)
+     */
+    static List<String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>(CSV_HEADER.length);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    private class BatchState {
+        final List<Product> products;
+        final List<ProductImportBatch.RowError> errors = new ArrayList<>();
+        long rows;
+        long imported;
+        long rejected;
+        int rejectedInBatch;
+        int batches;
+
+        BatchState(int batchSize) {
+            this.products = new ArrayList<>(batchSize);
+        }
+
+        void reject(long line, String message) {
+            reject(line, message, 1);
+        }
+
+        void reject(long line, String message, int count) {
+            rejected += count;
+            rejectedInBatch += count;
+            if (errors.size() < maxErrorsPerBatch) {
+                errors.add(new ProductImportBatch.RowError(line, message));
+            }
+        }
+    }
+}
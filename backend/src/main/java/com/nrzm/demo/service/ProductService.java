@@ -1,36 +1,119 @@
 package com.nrzm.demo.service;
 
+import com.nrzm.demo.config.TransactionHooks;
+import com.nrzm.demo.dto.PatchResult;
+import com.nrzm.demo.dto.ProductPatch;
+import com.nrzm.demo.dto.ProductStock;
 import com.nrzm.demo.entity.Product;
 import com.nrzm.demo.repository.ProductRepository;
+import com.nrzm.demo.repository.VersionedUpdate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 public class ProductService {
 
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private ProductCache productCache;
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미적중 시 리포지토리 트랜잭션으로 로딩)
     public Page<Product> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable);
+        return productCache.getPage(pageable, () -> productRepository.findAll(pageable));
     }
 
-    @Transactional(readOnly = true)
     public Product getProductById(Long id) {
-        return productRepository.findById(id).orElse(null);
+        return productCache.get(id, productRepository::findById);
     }
 
     @Transactional
     public Product saveProduct(Product product) {
-        return productRepository.save(product);
+        Product existing = product.getProductId() == null ? null : productRepository.findById(product.getProductId()).orElse(null);
+        Integer previousStock = existing != null ? existing.getStockQuantity() : null;
+        if (existing != null && product.getVersion() == null) {
+            product.setVersion(existing.getVersion()); // version 없이 보낸 전체 수정(PUT)은 기존처럼 마지막 저장 반영
+        }
+        Product savedProduct = productRepository.save(product);
+        if (previousStock == null) {
+            productCache.evictInsertedOrDeletedAfterCommit(List.of(savedProduct.getProductId()));
+        } else {
+            productCache.evictUpdatedAfterCommit(List.of(savedProduct.getProductId()));
+            // 재고 원장에는 관리자가 바꾼 변경량만 반영 (원장의 미반영 주문 차감분 유지)
+            int stockDelta = savedProduct.getStockQuantity() - previousStock;
+            TransactionHooks.afterCommit(() -> inventoryLedger.adjust(savedProduct.getProductId(), stockDelta));
+        }
+        return savedProduct;
+    }
+
+    /**
+     * 보낸 필드만 UPDATE 한 번으로 변경합니다 (version 불일치 시 ObjectOptimisticLockingFailureException).
+     */
+    @Transactional
+    public PatchResult patchProduct(Long id, ProductPatch patch) {
+        // 재고 원장에는 변경량을 전달해야 하므로 원장 사용 중 재고를 바꿀 때만 이전 재고 조회
+        // 읽은 version 이 요청 version 과 같아야, 아래 UPDATE 의 version 조건 통과 시 읽은 재고가 바뀌기 직전 값임이 보장됨
+        Integer previousStock = null;
+        if (patch.stockQuantity() != null && inventoryLedger.isEnabled()) {
+            ProductStock current = productRepository.findStockById(id).orElse(null);
+            if (current != null && patch.version() != null && !current.version().equals(patch.version())) {
+                throw new ObjectOptimisticLockingFailureException(Product.class, id);
+            }
+            previousStock = current != null ? current.stockQuantity() : null; // 없으면 UPDATE 가 EntityNotFoundException
+        }
+
+        long version = VersionedUpdate.of(entityManager, Product.class, "productId", id, patch.version())
+                .set("name", patch.name())
+                .set("description", patch.description())
+                .set("price", patch.price())
+                .set("stockQuantity", patch.stockQuantity())
+                .set("categoryId", patch.categoryId())
+                .execute();
+
+        productCache.evictUpdatedAfterCommit(List.of(id));
+        if (previousStock != null) {
+            int stockDelta = patch.stockQuantity() - previousStock;
+            TransactionHooks.afterCommit(() -> inventoryLedger.adjust(id, stockDelta));
+        }
+        return new PatchResult(id, version);
+    }
+
+    /**
+     * 일괄 등록용 배치 저장. 배치 하나가 한 트랜잭션이며, 저장 후 영속성 컨텍스트를 비워
+     * 요청 범위(open-in-view) EntityManager 에 엔티티가 누적되지 않도록 합니다.
+     */
+    @Transactional
+    public void saveProductBatch(List<Product> products) {
+        List<Long> ids = productRepository.saveAll(products).stream().map(Product::getProductId).toList();
+        entityManager.flush();
+        entityManager.clear();
+        productCache.evictInsertedOrDeletedAfterCommit(ids);
     }
 
     @Transactional
     public void deleteProduct(Long id) {
         productRepository.deleteById(id);
+        productCache.evictInsertedOrDeletedAfterCommit(List.of(id));
+        TransactionHooks.afterCommit(() -> inventoryLedger.remove(id));
+    }
+
+    /**
+     * 주문 등으로 재고가 직접(벌크 쿼리) 변경된 상품의 캐시를 커밋 후 무효화합니다.
+     */
+    public void evictProducts(Collection<Long> ids) {
+        productCache.evictUpdatedAfterCommit(ids);
     }
 }
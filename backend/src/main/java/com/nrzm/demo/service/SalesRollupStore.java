@@ -0,0 +1,498 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.OrderRollupRow;
+import com.nrzm.demo.dto.SalesRollupRow;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.entity.Order.OrderStatus;
+import com.nrzm.demo.entity.OrderItem;
+import com.nrzm.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일자/상품/주문상태별 판매 집계 (주문 수, 수량, 금액 합계). 관리자 분석 조회는 주문 테이블 대신 이 집계를 읽습니다.
+ * <ul>
+ *     <li>주문 저장/삭제 시 변경 전후의 차이만 커밋 후 반영합니다(증분). 롤백된 변경은 반영되지 않습니다.</li>
+ *     <li>기동 시(및 analytics.rollup.rebuild-cron 주기로) 주문 id 구간을 나누어 병렬로 다시 계산한 뒤 통째로 교체합니다.</li>
+ *     <li>재계산 도중 커밋되는 주문은 아직 적재되지 않은 구간이면 적재에서 빼고 커밋된 값으로 새 집계에 넣으며,
+ *     이미 적재된 구간이면 변경분만 더합니다. 교체 전후 어느 시점의 변경도 빠지거나 두 번 반영되지 않습니다.</li>
+ *     <li>금액은 1/100 단위 정수로 누적하고, 상태가 없는 주문은 집계하지 않습니다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class SalesRollupStore {
+
+    public enum Dimension {
+        DAY, PRODUCT, STATUS
+    }
+
+    /**
+     * 주문 1건이 집계에 더하는 값. 주문 엔티티가 이후 변경되어도 영향받지 않도록 값만 복사해 둡니다.
+     */
+    public record OrderContribution(LocalDate day, OrderStatus status, long quantity, long amountCents, List<Line> lines) {
+        public record Line(Long productId, long quantity, long amountCents) {
+        }
+
+        public OrderContribution withStatus(OrderStatus status) {
+            return new OrderContribution(day, status, quantity, amountCents, lines);
+        }
+    }
+
+    private static final class Cell {
+        final LongAdder orders = new LongAdder();
+        final LongAdder quantity = new LongAdder();
+        final LongAdder amountCents = new LongAdder();
+
+        void add(int sign, long quantity, long amountCents) {
+            this.orders.add(sign);
+            this.quantity.add(sign * quantity);
+            this.amountCents.add(sign * amountCents);
+        }
+    }
+
+    private record ProductStatus(Long productId, OrderStatus status) {
+    }
+
+    private static final class DayBucket {
+        final Map<OrderStatus, Cell> byStatus = new ConcurrentHashMap<>();     // 주문 단위
+        final Map<ProductStatus, Cell> byProduct = new ConcurrentHashMap<>();  // 주문상품 단위
+    }
+
+    private record GroupKey(LocalDate day, Long productId, OrderStatus status) {
+    }
+
+    /**
+     * 재계산 도중 커밋을 시작한 주문의 상태.
+     * 구간 적재 전에 커밋을 시작했으면 적재에서 빼고, 처음 끝나는 커밋의 변경 전 값(또는 모두 롤백되면 DB 값)을 기준값으로 넣습니다.
+     */
+    private static final class TouchedOrder {
+        final boolean loaded;   // 커밋 시작 시점에 이미 구간 적재로 반영됨 (변경 전 값)
+        int inFlight;           // 커밋을 시작했지만 아직 끝나지 않은 트랜잭션 수
+        boolean baseApplied;
+
+        TouchedOrder(boolean loaded) {
+            this.loaded = loaded;
+        }
+    }
+
+    /**
+     * 재계산 1회의 상태. 교체 전까지는 이전 집계와 새 집계 양쪽에 변경을 반영합니다.
+     */
+    private static final class Rebuild {
+        final ConcurrentSkipListMap<LocalDate, DayBucket> previous;
+        final ConcurrentSkipListMap<LocalDate, DayBucket> next = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<Long, Long> loadedRanges = new ConcurrentSkipListMap<>(); // 적재한 주문 id 구간 (from -> to)
+        final Map<Long, TouchedOrder> touched = new ConcurrentHashMap<>();
+
+        Rebuild(ConcurrentSkipListMap<LocalDate, DayBucket> previous) {
+            this.previous = previous;
+        }
+
+        // 구간 적재(synchronized)와 배타적으로 적재 여부를 고정
+        synchronized TouchedOrder touch(Long orderId) {
+            return touched.computeIfAbsent(orderId, id -> {
+                Map.Entry<Long, Long> range = loadedRanges.floorEntry(id);
+                return new TouchedOrder(range != null && id <= range.getValue());
+            });
+        }
+    }
+
+    private static final Comparator<SalesRollupRow> ROW_ORDER = Comparator
+            .comparing(SalesRollupRow::day, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(SalesRollupRow::productId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+            .thenComparing(SalesRollupRow::status, Comparator.nullsFirst(Comparator.<OrderStatus>naturalOrder()));
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+    private final int parallelism;
+    private final long chunkSize;
+
+    private volatile ConcurrentSkipListMap<LocalDate, DayBucket> days = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Rebuild current;
+    private final AtomicInteger commitsOutsideRebuild = new AtomicInteger(); // 재계산이 없을 때 커밋을 시작해 아직 끝나지 않은 수
+
+    public SalesRollupStore(OrderRepository orderRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${analytics.rollup.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                            @Value("${analytics.rollup.rebuild-parallelism:4}") int parallelism, // DB 커넥션 풀 크기보다 작게
+                            @Value("${analytics.rollup.rebuild-chunk-size:5000}") long chunkSize) {
+        this.orderRepository = orderRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 커밋 완료 콜백에서도 호출되므로 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.parallelism = Math.max(parallelism, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+
+        Gauge.builder("sales.rollup.days", this, store -> store.days.size())
+                .description("판매 집계가 있는 일자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주문 엔티티의 현재 값을 집계 기여분으로 복사합니다. 트랜잭션 안에서 호출해야 합니다(주문상품 지연 로딩).
+     *
+     * @return 기여분, 주문일 또는 상태가 없으면 null
+     */
+    public static OrderContribution contributionOf(Order order) {
+        if (order == null || order.getOrderDate() == null || order.getStatus() == null) {
+            return null;
+        }
+        Map<Long, long[]> lines = new LinkedHashMap<>();
+        if (order.getOrderItems() != null) {
+            for (OrderItem item : order.getOrderItems()) {
+                if (item.getProduct() != null) {
+                    addLine(lines, item.getProduct().getProductId(), item.getQuantity(), item.getPrice());
+                }
+            }
+        }
+        return contribution(order.getOrderDate(), order.getStatus(), order.getTotalAmount(), lines);
+    }
+
+    /**
+     * 주문 1건의 집계용 행({@link OrderRepository#findRollupRows})을 기여분으로 변환합니다.
+     *
+     * @return 기여분, 행이 없거나 주문일 또는 상태가 없으면 null
+     */
+    public static OrderContribution contributionOf(List<OrderRollupRow> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        OrderRollupRow first = rows.get(0);
+        if (first.orderDate() == null || first.status() == null) {
+            return null;
+        }
+        Map<Long, long[]> lines = new LinkedHashMap<>();
+        for (OrderRollupRow row : rows) {
+            if (row.productId() != null) {
+                addLine(lines, row.productId(), row.quantity(), row.price());
+            }
+        }
+        return contribution(first.orderDate(), first.status(), first.totalAmount(), lines);
+    }
+
+    /**
+     * 변경 전 기여분을 빼고 변경 후 기여분을 더하는 작업을 커밋 후 실행합니다. 생성은 before, 삭제는 after 가 null 입니다.
+     * 트랜잭션 밖에서 호출되면 즉시 반영합니다.
+     */
+    public void replaceAfterCommit(Long orderId, OrderContribution before, OrderContribution after) {
+        if (before == null && after == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeCommit(beginCommit(orderId), orderId, before, after, true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Rebuild rebuild;
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                rebuild = beginCommit(orderId);
+                committing = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) {
+                    completeCommit(rebuild, orderId, before, after, status == STATUS_COMMITTED);
+                }
+            }
+        });
+    }
+
+    // 커밋 직전: 재계산 중이면 이 주문의 적재 여부를 고정, 아니면 재계산 시작이 이 커밋의 완료를 기다리도록 표시
+    private Rebuild beginCommit(Long orderId) {
+        commitsOutsideRebuild.incrementAndGet(); // current 확인보다 먼저 올려야 시작하는 재계산이 놓치지 않음
+        Rebuild rebuild = current;
+        if (rebuild == null) {
+            return null;
+        }
+        commitsOutsideRebuild.decrementAndGet();
+        TouchedOrder order = rebuild.touch(orderId);
+        synchronized (order) {
+            order.inFlight++;
+        }
+        return rebuild;
+    }
+
+    private void completeCommit(Rebuild rebuild, Long orderId, OrderContribution before, OrderContribution after, boolean committed) {
+        if (rebuild == null) {
+            try {
+                if (committed) {
+                    replace(days, before, after);
+                }
+            } finally {
+                commitsOutsideRebuild.decrementAndGet();
+            }
+            return;
+        }
+
+        if (committed) {
+            replace(rebuild.previous, before, after); // 교체 전까지 조회되는 집계
+        }
+        TouchedOrder order = rebuild.touched.get(orderId);
+        synchronized (order) {
+            order.inFlight--;
+            if (!order.loaded && !order.baseApplied) {
+                if (committed) {
+                    // 커밋된 변경의 before 는 커밋 직전의 DB 값 (version 검증)
+                    addIfPresent(rebuild.next, before);
+                    order.baseApplied = true;
+                } else if (order.inFlight == 0) {
+                    // 모두 롤백됨: 커밋 중인 트랜잭션이 없으므로(새 커밋은 touch 에서 대기) 지금 읽은 값이 커밋된 값
+                    addIfPresent(rebuild.next, readContribution(orderId));
+                    order.baseApplied = true;
+                }
+            }
+            if (committed) {
+                replace(rebuild.next, before, after);
+            }
+        }
+    }
+
+    /**
+     * 기간 내 집계를 groupBy 기준으로 묶어 반환합니다.
+     *
+     * @param from      시작일 (포함, null 이면 제한 없음)
+     * @param to        종료일 (포함, null 이면 제한 없음)
+     * @param status    주문상태 필터 (null 이면 전체)
+     * @param productId 상품 필터 (null 이면 전체, 지정하면 주문상품 단위로 집계)
+     */
+    public List<SalesRollupRow> query(LocalDate from, LocalDate to, Set<Dimension> groupBy, OrderStatus status, Long productId) {
+        NavigableMap<LocalDate, DayBucket> range = days;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+
+        boolean byDay = groupBy.contains(Dimension.DAY);
+        boolean byProduct = groupBy.contains(Dimension.PRODUCT);
+        boolean byStatus = groupBy.contains(Dimension.STATUS);
+        Map<GroupKey, long[]> totals = new HashMap<>();
+        for (Map.Entry<LocalDate, DayBucket> day : range.entrySet()) {
+            LocalDate dayKey = byDay ? day.getKey() : null;
+            if (byProduct || productId != null) {
+                for (Map.Entry<ProductStatus, Cell> cell : day.getValue().byProduct.entrySet()) {
+                    ProductStatus key = cell.getKey();
+                    if ((status == null || key.status() == status) && (productId == null || productId.equals(key.productId()))) {
+                        accumulate(totals, new GroupKey(dayKey, byProduct ? key.productId() : null, byStatus ? key.status() : null), cell.getValue());
+                    }
+                }
+            } else {
+                for (Map.Entry<OrderStatus, Cell> cell : day.getValue().byStatus.entrySet()) {
+                    if (status == null || cell.getKey() == status) {
+                        accumulate(totals, new GroupKey(dayKey, null, byStatus ? cell.getKey() : null), cell.getValue());
+                    }
+                }
+            }
+        }
+
+        List<SalesRollupRow> rows = new ArrayList<>(totals.size());
+        for (Map.Entry<GroupKey, long[]> total : totals.entrySet()) {
+            long[] sums = total.getValue();
+            if (sums[0] == 0 && sums[1] == 0 && sums[2] == 0) {
+                continue; // 삭제 등으로 0 이 된 항목
+            }
+            GroupKey key = total.getKey();
+            rows.add(new SalesRollupRow(key.day(), key.productId(), key.status(), sums[0], sums[1], BigDecimal.valueOf(sums[2], 2)));
+        }
+        rows.sort(ROW_ORDER);
+        return rows;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${analytics.rollup.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 주문 테이블에서 집계를 다시 계산해 교체합니다. 주문 id 구간별로 별도 읽기 전용 트랜잭션에서 병렬 조회합니다.
+     *
+     * @return 재계산한 주문 수, 이미 재계산 중이면 -1
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return -1;
+        }
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, daemonThreads());
+        Rebuild rebuild = new Rebuild(days);
+        current = rebuild;
+        try {
+            // 재계산 표시 전에 커밋을 시작한 트랜잭션이 끝나기를 기다림 (그 변경은 아래 조회에 포함되고 이전 집계에만 반영됨)
+            while (commitsOutsideRebuild.get() > 0) {
+                Thread.sleep(1);
+            }
+
+            Long minId = orderRepository.findMinOrderId();
+            Long maxId = orderRepository.findMaxOrderId();
+            List<Future<Integer>> chunks = new ArrayList<>();
+            if (minId != null && maxId != null) {
+                for (long lo = minId; lo <= maxId; lo += chunkSize) {
+                    long fromId = lo;
+                    long toId = Math.min(lo + chunkSize - 1, maxId);
+                    chunks.add(executor.submit(() -> loadChunk(rebuild, fromId, toId)));
+                }
+            }
+
+            int orders = 0;
+            for (Future<Integer> chunk : chunks) {
+                orders += chunk.get();
+            }
+            days = rebuild.next; // 이후 끝나는 재계산 중 커밋은 rebuild.next(= days)에 한 번만 반영됨
+            log.info("Sales rollup rebuilt: {} orders in {} chunks, {} ms", orders, chunks.size(), (System.nanoTime() - started) / 1_000_000);
+            return orders;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("판매 집계 재계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("판매 집계 재계산에 실패했습니다.", e.getCause());
+        } finally {
+            current = null;
+            executor.shutdownNow();
+            rebuilding.set(false);
+        }
+    }
+
+    // 구간의 행은 (orderId, orderItemId) 순서이므로 연속된 같은 orderId 행을 한 주문으로 묶음
+    // 조회 이후 커밋을 시작한 주문은 조회 값이 최신이 아닐 수 있으므로 제외 (커밋 완료 시 반영됨)
+    private int loadChunk(Rebuild rebuild, long fromId, long toId) {
+        List<OrderRollupRow> rows = readOnlyTransaction.execute(status -> orderRepository.findRollupRows(fromId, toId));
+        int orders = 0;
+        synchronized (rebuild) {
+            int start = 0;
+            while (start < rows.size()) {
+                Long orderId = rows.get(start).orderId();
+                int end = start + 1;
+                while (end < rows.size() && rows.get(end).orderId().equals(orderId)) {
+                    end++;
+                }
+                OrderContribution contribution = contributionOf(rows.subList(start, end));
+                if (contribution != null && !rebuild.touched.containsKey(orderId)) {
+                    apply(rebuild.next, contribution, 1);
+                    orders++;
+                }
+                start = end;
+            }
+            rebuild.loadedRanges.put(fromId, toId);
+        }
+        return orders;
+    }
+
+    private OrderContribution readContribution(Long orderId) {
+        return contributionOf(readOnlyTransaction.execute(status -> orderRepository.findRollupRows(orderId, orderId)));
+    }
+
+    private static void replace(ConcurrentSkipListMap<LocalDate, DayBucket> target, OrderContribution before, OrderContribution after) {
+        if (before != null) {
+            apply(target, before, -1);
+        }
+        addIfPresent(target, after);
+    }
+
+    private static void addIfPresent(ConcurrentSkipListMap<LocalDate, DayBucket> target, OrderContribution contribution) {
+        if (contribution != null) {
+            apply(target, contribution, 1);
+        }
+    }
+
+    private static void apply(ConcurrentSkipListMap<LocalDate, DayBucket> target, OrderContribution contribution, int sign) {
+        DayBucket bucket = target.computeIfAbsent(contribution.day(), day -> new DayBucket());
+        bucket.byStatus.computeIfAbsent(contribution.status(), status -> new Cell())
+                .add(sign, contribution.quantity(), contribution.amountCents());
+        for (OrderContribution.Line line : contribution.lines()) {
+            bucket.byProduct.computeIfAbsent(new ProductStatus(line.productId(), contribution.status()), key -> new Cell())
+                    .add(sign, line.quantity(), line.amountCents());
+        }
+    }
+
+    private static void accumulate(Map<GroupKey, long[]> totals, GroupKey key, Cell cell) {
+        long[] sums = totals.computeIfAbsent(key, k -> new long[3]);
+        sums[0] += cell.orders.sum();
+        sums[1] += cell.quantity.sum();
+        sums[2] += cell.amountCents.sum();
+    }
+
+    // 같은 주문에 같은 상품이 여러 줄이면 합쳐서 상품별 주문 수가 한 번만 세어지도록 함
+    private static void addLine(Map<Long, long[]> lines, Long productId, Integer quantity, BigDecimal price) {
+        long qty = quantity != null ? quantity : 0;
+        long[] line = lines.computeIfAbsent(productId, id -> new long[2]);
+        line[0] += qty;
+        line[1] += price != null ? toCents(price.multiply(BigDecimal.valueOf(qty))) : 0;
+    }
+
+    private static OrderContribution contribution(LocalDateTime orderDate, OrderStatus status, BigDecimal totalAmount, Map<Long, long[]> lines) {
+        List<OrderContribution.Line> contributionLines = new ArrayList<>(lines.size());
+        long quantity = 0;
+        for (Map.Entry<Long, long[]> line : lines.entrySet()) {
+            contributionLines.add(new OrderContribution.Line(line.getKey(), line.getValue()[0], line.getValue()[1]));
+            quantity += line.getValue()[0];
+        }
+        return new OrderContribution(orderDate.toLocalDate(), status, quantity,
+                totalAmount != null ? toCents(totalAmount) : 0, List.copyOf(contributionLines));
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sales-rollup-rebuild-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
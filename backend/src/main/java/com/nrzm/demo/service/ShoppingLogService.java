@@ -1,15 +1,18 @@
 package com.nrzm.demo.service;
 
+import com.nrzm.demo.dto.CursorPage;
+import com.nrzm.demo.dto.PageCursor;
 import com.nrzm.demo.entity.ShoppingLog;
-import com.nrzm.demo.entity.Member;
 import com.nrzm.demo.repository.ShoppingLogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class ShoppingLogService {
@@ -32,8 +35,8 @@ public class ShoppingLogService {
     }
 
     @Transactional(readOnly = true)
-    public Page<ShoppingLog> getShoppingLogsByMember(Member member, Pageable pageable) {
-        return shoppingLogRepository.findByMember(member, pageable);
+    public Page<ShoppingLog> getShoppingLogsByMember(Long memberId, Pageable pageable) {
+        return shoppingLogRepository.findByMemberId(memberId, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -41,6 +44,34 @@ public class ShoppingLogService {
         return shoppingLogRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ShoppingLog> getShoppingLogsByMemberAfter(Long memberId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<ShoppingLog> logs = after == null
+                ? shoppingLogRepository.findByMemberIdFirst(memberId, limit)
+                : shoppingLogRepository.findByMemberIdAfter(memberId, after.timestamp(), after.id(), limit);
+        return toCursorPage(logs, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ShoppingLog> getAllShoppingLogsAfter(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<ShoppingLog> logs = after == null
+                ? shoppingLogRepository.findFirst(limit)
+                : shoppingLogRepository.findAfter(after.timestamp(), after.id(), limit);
+        return toCursorPage(logs, size);
+    }
+
+    private CursorPage<ShoppingLog> toCursorPage(List<ShoppingLog> logs, int size) {
+        boolean hasNext = logs.size() > size;
+        List<ShoppingLog> content = hasNext ? logs.subList(0, size) : logs;
+        ShoppingLog last = hasNext ? content.get(content.size() - 1) : null;
+        String nextCursor = last != null ? new PageCursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
     @Transactional
     public void deleteShoppingLog(Long id) {
         shoppingLogRepository.deleteById(id);
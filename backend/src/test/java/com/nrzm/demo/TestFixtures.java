@@ -0,0 +1,29 @@
+package com.nrzm.demo;
+
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.ProductRepository;
+
+import java.math.BigDecimal;
+
+/**
+ * 테스트 공통 데이터 생성.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Product saveProduct(ProductRepository productRepository, String name, String price, int stock) {
+        return saveProduct(productRepository, name, price, stock, 1);
+    }
+
+    public static Product saveProduct(ProductRepository productRepository, String name, String price, int stock, int categoryId) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription("테스트 상품");
+        product.setPrice(new BigDecimal(price));
+        product.setStockQuantity(stock);
+        product.setCategoryId(categoryId);
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,230 @@
+package com.nrzm.demo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션을 임의 포트로 기동(H2)하고 여러 동시 클라이언트로 API 를 호출하여
+ * 엔드포인트별 처리량, 오류율, 지연 시간 백분위수(p50/p99/p999)를 출력합니다.
+ * <p>
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행합니다. 설정(시스템 프로퍼티):
+ * <ul>
+ *     <li>loadtest.clients - 동시 클라이언트 수 (기본 32)</li>
+ *     <li>loadtest.warmupSeconds / loadtest.durationSeconds - 워밍업/측정 시간 (기본 5 / 30)</li>
+ *     <li>loadtest.mix - 엔드포인트별 호출 비중 (기본 products=40,orders=30,shoppingLogs=20,adminOrders=10)</li>
+ *     <li>loadtest.maxErrorRate - 허용 오류율, 초과 시 실패 (기본 0.01)</li>
+ * </ul>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.org.springframework=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}" // 설정이 달라 컨텍스트를 따로 쓰므로 DB 도 분리
+})
+class LoadTest {
+
+    private static final String MEMBER_USERNAME = "lsg@email.com";
+    private static final String MEMBER_PASSWORD = "lee123";
+    private static final String ADMIN_USERNAME = "admin";
+    private static final String ADMIN_PASSWORD = "qwaszx";
+
+    enum Endpoint {
+        products("/api/products?page=0&size=10", false),
+        orders("/api/orders?page=0&size=10", false),
+        shoppingLogs("/shopping-logs/api/member?page=0&size=10", false),
+        adminOrders("/admin/orders?page=0&size=10", true);
+
+        final String path;
+        final boolean admin;
+
+        Endpoint(String path, boolean admin) {
+            this.path = path;
+            this.admin = admin;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void run() throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 32);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 5);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+        Map<Endpoint, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+                "products=40,orders=30,shoppingLogs=20,adminOrders=10"));
+
+        long startAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endAt = startAt + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<ClientResult>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> new Client(mix).run(startAt, endAt)));
+        }
+
+        Map<Endpoint, ClientResult.Stats> total = new EnumMap<>(Endpoint.class);
+        for (Future<ClientResult> future : futures) {
+            future.get().stats.forEach((endpoint, stats) ->
+                    total.computeIfAbsent(endpoint, e -> new ClientResult.Stats()).add(stats));
+        }
+        executor.shutdown();
+
+        long requests = 0;
+        long errors = 0;
+        System.out.printf("%n=== load test: %d clients, %ds (warmup %ds) ===%n", clients, durationSeconds, warmupSeconds);
+        System.out.printf("%-14s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Map.Entry<Endpoint, ClientResult.Stats> entry : total.entrySet()) {
+            ClientResult.Stats stats = entry.getValue();
+            Histogram h = stats.latency;
+            System.out.printf("%-14s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), h.getTotalCount(), (double) h.getTotalCount() / durationSeconds, stats.errors,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+            requests += h.getTotalCount();
+            errors += stats.errors;
+        }
+        System.out.printf("%-14s %9d %9.1f %8d%n", "total", requests, (double) requests / durationSeconds, errors);
+
+        assertThat(requests).isPositive();
+        assertThat((double) errors / requests).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    private static double millis(long valueMicros) {
+        return valueMicros / 1000.0;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            weights.put(Endpoint.valueOf(pair[0]), Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+
+    static class ClientResult {
+        static class Stats {
+            // 1us ~ 1분, 유효숫자 3자리
+            final Histogram latency = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+            long errors;
+
+            void add(Stats other) {
+                latency.add(other.latency);
+                errors += other.errors;
+            }
+        }
+
+        final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    }
+
+    private class Client {
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager()) // 리프레시 토큰 쿠키 유지
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        private final Endpoint[] weighted;
+        private String memberToken;
+        private String adminToken;
+
+        Client(Map<Endpoint, Integer> mix) {
+            List<Endpoint> endpoints = new ArrayList<>();
+            mix.forEach((endpoint, weight) -> {
+                for (int i = 0; i < weight; i++) {
+                    endpoints.add(endpoint);
+                }
+            });
+            this.weighted = endpoints.toArray(new Endpoint[0]);
+        }
+
+        ClientResult run(long startAt, long endAt) throws Exception {
+            memberToken = login(MEMBER_USERNAME, MEMBER_PASSWORD);
+            adminToken = login(ADMIN_USERNAME, ADMIN_PASSWORD);
+
+            ClientResult result = new ClientResult();
+            long now;
+            while ((now = System.nanoTime()) < endAt) {
+                Endpoint endpoint = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+                HttpRequest request = HttpRequest.newBuilder(uri(endpoint.path))
+                        .header("Authorization", "Bearer " + (endpoint.admin ? adminToken : memberToken))
+                        .header("Accept", "application/json")
+                        .GET()
+                        .build();
+
+                long start = System.nanoTime();
+                int status;
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    status = response.statusCode();
+                    // 액세스 토큰이 만료되어 갱신된 경우 새 토큰 사용
+                    response.headers().firstValue("Authorization").ifPresent(header -> updateToken(endpoint, header));
+                } catch (java.io.IOException e) {
+                    status = -1;
+                }
+                long elapsedMicros = (System.nanoTime() - start) / 1000;
+
+                if (now >= startAt) {
+                    ClientResult.Stats stats = result.stats.computeIfAbsent(endpoint, e -> new ClientResult.Stats());
+                    stats.latency.recordValue(Math.min(elapsedMicros, stats.latency.getHighestTrackableValue()));
+                    if (status < 200 || status >= 300) {
+                        stats.errors++;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void updateToken(Endpoint endpoint, String header) {
+            String token = header.substring("Bearer ".length());
+            if (endpoint.admin) {
+                adminToken = token;
+            } else {
+                memberToken = token;
+            }
+        }
+
+        private String login(String username, String password) throws Exception {
+            String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                    + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+            HttpRequest request = HttpRequest.newBuilder(uri("/token"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form))
+                    .build();
+
+            for (int attempt = 0; attempt < 20; attempt++) {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 429) {
+                    // 로그인 대기열 초과 시 Retry-After 만큼 대기 후 재시도
+                    long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+                    continue;
+                }
+                assertThat(response.statusCode()).as("login %s", username).isEqualTo(200);
+                return response.headers().firstValue("Authorization").orElseThrow().substring("Bearer ".length());
+            }
+            throw new IllegalStateException("login throttled too many times: " + username);
+        }
+
+        private URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nrzm.demo.loadtest;
+
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import com.nrzm.demo.service.InsufficientStockException;
+import com.nrzm.demo.service.OrderPlacementService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 상품에 다수의 구매자가 동시에 주문할 때의 주문 생성 처리량을 출력합니다 (HTTP 없이 서비스 직접 호출).
+ * <p>
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행합니다. 설정(시스템 프로퍼티):
+ * <ul>
+ *     <li>loadtest.buyers - 동시 구매자 수 (기본 128)</li>
+ *     <li>loadtest.ordersPerBuyer - 구매자당 주문 시도 수 (기본 4)</li>
+ *     <li>loadtest.stock - 상품 재고 (기본 300)</li>
+ * </ul>
+ */
+@Tag("load")
+@SpringBootTest
+class OrderPlacementLoadTest {
+
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void run() throws Exception {
+        int buyers = Integer.getInteger("loadtest.buyers", 128);
+        int ordersPerBuyer = Integer.getInteger("loadtest.ordersPerBuyer", 4);
+        int stock = Integer.getInteger("loadtest.stock", 300);
+
+        Long productId = saveProduct(productRepository, "한정판 상품", "10000", stock).getProductId();
+        Member member = memberRepository.findByEmail("jdj@email.com").orElseThrow();
+
+        PlaceOrderRequest request = new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 1)));
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < buyers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ordersPerBuyer; j++) {
+                    try {
+                        orderPlacementService.placeOrder(member.getMemberId(), request);
+                        placed.incrementAndGet();
+                    } catch (InsufficientStockException e) {
+                        soldOut.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        executor.shutdown();
+
+        System.out.printf("%n=== order placement: %d buyers, %d attempts, stock %d ===%n", buyers, buyers * ordersPerBuyer, stock);
+        System.out.printf("%d placed, %d sold out, %.1fs, %.0f attempts/s%n",
+                placed.get(), soldOut.get(), seconds, (placed.get() + soldOut.get()) / seconds);
+
+        assertThat(placed.get()).isEqualTo(Math.min(stock, buyers * ordersPerBuyer));
+    }
+}
@@ -0,0 +1,189 @@
+package com.nrzm.demo.repository;
+
+import com.nrzm.demo.auth.repository.UserRepository;
+import com.nrzm.demo.config.logging.SqlStatementCounter;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.service.InventoryLedger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 리포지토리 쿼리가 실행하는 SQL 을 모아 H2 EXPLAIN 으로 실행 계획을 확인합니다.
+ * 조건이 걸린 테이블을 전체 스캔(계획에 PUBLIC.테이블.tableScan)하면 실패합니다.
+ * 조건 없이 전체를 읽는 조회(정렬 인덱스가 없는 목록, 조건 없는 내보내기 등)는 대상이 아닙니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}", // 설정이 달라 컨텍스트를 따로 쓰므로 DB 도 분리
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.nrzm.demo.repository.QueryPlanTest$CapturingInspector"
+})
+@Transactional
+class QueryPlanTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ShoppingLogRepository shoppingLogRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Pageable BY_ORDER_DATE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "orderDate", "orderId"));
+    private static final Pageable FIRST_TEN = PageRequest.of(0, 10);
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Test
+    void orderQueriesUseIndexes() {
+        assertNoTableScan(() -> orderRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "totalAmount", "orderId"))),
+                "ORDERS");
+        assertNoTableScan(() -> orderRepository.findSummariesByMemberId(1L, BY_ORDER_DATE), "ORDERS");
+        assertNoTableScan(() -> orderRepository.findSummariesByMemberIdFirst(1L, FIRST_TEN), "ORDERS");
+        assertNoTableScan(() -> orderRepository.findSummariesByMemberIdAfter(1L, NOW, 100L, FIRST_TEN), "ORDERS");
+        assertNoTableScan(() -> orderRepository.findSummariesAfter(NOW, 100L, FIRST_TEN), "ORDERS");
+        assertNoTableScan(() -> orderRepository.findItemSummariesByOrderIds(List.of(1L, 2L, 3L)), "ORDER_ITEMS");
+        assertNoTableScan(() -> orderRepository.findRollupRows(1L, 5000L), "ORDERS", "ORDER_ITEMS");
+        assertNoTableScan(() -> orderRepository.findReportRowsByOrderIds(List.of(1L, 2L)), "ORDERS", "ORDER_ITEMS", "PRODUCTS");
+        assertNoTableScan(() -> {
+            try (Stream<?> rows = orderRepository.streamReportRowsAfter(Long.MAX_VALUE - 1)) {
+                rows.count();
+            }
+        }, "ORDERS", "ORDER_ITEMS", "PRODUCTS");
+        assertNoTableScan(() -> streamExportRows(NOW.minusDays(1), NOW, null), "ORDERS", "ORDER_ITEMS", "PRODUCTS");
+        assertNoTableScan(() -> streamExportRows(NOW.minusDays(1), null, Order.OrderStatus.PENDING), "ORDERS", "ORDER_ITEMS", "PRODUCTS");
+    }
+
+    @Test
+    void shoppingLogQueriesUseIndexes() {
+        assertNoTableScan(() -> shoppingLogRepository.findByMemberId(1L, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"))),
+                "SHOPPING_LOGS");
+        assertNoTableScan(() -> shoppingLogRepository.findByMemberIdFirst(1L, FIRST_TEN), "SHOPPING_LOGS");
+        assertNoTableScan(() -> shoppingLogRepository.findByMemberIdAfter(1L, NOW, 100L, FIRST_TEN), "SHOPPING_LOGS");
+        assertNoTableScan(() -> shoppingLogRepository.findAfter(NOW, 100L, FIRST_TEN), "SHOPPING_LOGS");
+    }
+
+    @Test
+    void memberProductAndUserQueriesUseIndexes() {
+        assertNoTableScan(() -> memberRepository.findByEmail("plan@example.com"), "MEMBERS");
+        assertNoTableScan(() -> memberRepository.findEmailByMemberId(1L), "MEMBERS");
+        assertNoTableScan(() -> memberRepository.findByIsDeletedFalse(FIRST_TEN), "MEMBERS");
+        assertNoTableScan(() -> memberRepository.findByIsDeletedTrue(FIRST_TEN), "MEMBERS");
+        assertPlanHasNoTableScan(ProductRepositoryCustomImpl.DECREMENT_STOCK_SQL, "PRODUCTS"); // JDBC 로 실행되어 수집 대상이 아님
+        assertPlanHasNoTableScan(InventoryLedger.LOAD_SQL, "PRODUCTS", "INVENTORY_PENDING_DELTAS");
+        assertNoTableScan(() -> userRepository.findByUsername("plan-admin"), "USERS");
+    }
+
+    private void streamExportRows(LocalDateTime from, LocalDateTime to, Order.OrderStatus status) {
+        try (Stream<?> rows = orderRepository.streamExportRows(from, to, status)) {
+            rows.count();
+        }
+    }
+
+    /**
+     * 쿼리를 실행해 Hibernate 가 보낸 SQL 을 모은 뒤, 각 SQL 의 EXPLAIN 에 지정한 테이블의 전체 스캔이 없는지 확인합니다.
+     */
+    private void assertNoTableScan(Runnable query, String... tables) {
+        CapturingInspector.startCapture();
+        List<String> statements;
+        try {
+            query.run();
+        } finally {
+            statements = CapturingInspector.stopCapture();
+        }
+        assertThat(statements).as("실행된 SQL").isNotEmpty();
+
+        for (String sql : statements) {
+            assertPlanHasNoTableScan(sql, tables);
+        }
+    }
+
+    private void assertPlanHasNoTableScan(String sql, String... tables) {
+        String plan = explain(sql);
+        if (plan.contains("/* direct lookup */")) {
+            return; // 페이지 건수 조회의 COUNT(*) 는 행을 읽지 않고 테이블 행 수를 바로 사용
+        }
+        for (String table : tables) {
+            assertThat(plan.toUpperCase(Locale.ROOT))
+                    .as("%s%n-> %s", sql, plan)
+                    .doesNotContain("PUBLIC." + table + ".TABLESCAN");
+        }
+    }
+
+    // 실행 계획은 값이 아니라 조건의 형태로 정해지므로 파라미터는 타입에 맞는 임의 값으로 채움
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> NOW;
+            case Types.DATE -> NOW.toLocalDate();
+            case Types.VARCHAR, Types.CHAR, Types.CLOB -> "x";
+            case Types.BOOLEAN -> false;
+            case Types.DECIMAL, Types.NUMERIC -> BigDecimal.ONE;
+            default -> 1L;
+        };
+    }
+
+    /**
+     * 요청당 SQL 수 집계는 그대로 두고, startCapture() ~ stopCapture() 사이에 실행된 SQL 문을 함께 기록합니다.
+     */
+    public static class CapturingInspector extends SqlStatementCounter {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static void startCapture() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static List<String> stopCapture() {
+            List<String> statements = CAPTURED.get();
+            CAPTURED.remove();
+            return statements != null ? statements : List.of();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return super.inspect(sql);
+        }
+    }
+}
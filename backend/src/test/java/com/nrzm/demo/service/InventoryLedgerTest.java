@@ -0,0 +1,133 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}", // 설정이 달라 컨텍스트를 따로 쓰므로 DB 도 분리
+        "inventory.ledger.enabled=true",
+        "inventory.ledger.hold-ttl=200ms",
+        "inventory.ledger.expiry-interval-millis=50",
+        "inventory.ledger.flush-interval-millis=3600000" // 기동 시 1회 후에는 테스트에서 직접 flush
+})
+class InventoryLedgerTest {
+
+    private static final int BUYERS = 128;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentBuyersNeverOversellAndStockIsFlushed() throws Exception {
+        Long productId = createProduct(STOCK);
+        Member member = memberRepository.findByEmail("lss@email.com").orElseThrow();
+        PlaceOrderRequest request = new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 1)));
+
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    orderPlacementService.placeOrder(member.getMemberId(), request);
+                    placed.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    soldOut.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(placed.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(inventoryLedger.available(productId)).isZero();
+
+        inventoryLedger.flush();
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    void unconfirmedHoldExpires() throws Exception {
+        Long productId = createProduct(5);
+
+        InventoryLedger.Hold hold = inventoryLedger.reserve(productId, 5);
+        assertThat(hold).isNotNull();
+        assertThat(inventoryLedger.reserve(productId, 1)).isNull();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (inventoryLedger.available(productId) != 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(inventoryLedger.available(productId)).isEqualTo(5);
+    }
+
+    @Test
+    void committedSalesSurviveRestartBeforeFlush() {
+        Long productId = createProduct(10);
+        Member member = memberRepository.findByEmail("lss@email.com").orElseThrow();
+        for (int i = 0; i < 3; i++) {
+            orderPlacementService.placeOrder(member.getMemberId(), new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 1))));
+        }
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(10); // 아직 flush 전
+
+        // 비정상 종료 후 재기동: 메모리 상태 없이 DB 에서 다시 적재하면 미반영 차감분까지 포함
+        inventoryLedger.remove(productId);
+        assertThat(inventoryLedger.available(productId)).isEqualTo(7);
+
+        inventoryLedger.flush();
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(7);
+        inventoryLedger.remove(productId);
+        assertThat(inventoryLedger.available(productId)).isEqualTo(7); // 반영된 변경량은 다시 더해지지 않음
+    }
+
+    @Test
+    void rolledBackOrderReleasesHoldsWithoutWaitingForExpiry() {
+        Long productId = createProduct(5);
+        double expired = meterRegistry.get("inventory.holds.expired").counter().count();
+
+        // 없는 회원으로 주문하면 커밋 시 외래 키 위반으로 롤백
+        assertThatThrownBy(() -> orderPlacementService.placeOrder(Long.MAX_VALUE,
+                new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 5)))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(inventoryLedger.available(productId)).isEqualTo(5);
+        assertThat(meterRegistry.get("inventory.holds.expired").counter().count()).isEqualTo(expired);
+    }
+
+    private Long createProduct(int stock) {
+        return saveProduct(productRepository, "한정판 상품", "10000", stock).getProductId();
+    }
+}
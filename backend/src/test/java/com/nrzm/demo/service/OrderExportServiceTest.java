@@ -0,0 +1,93 @@
+package com.nrzm.demo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내보내기 출력 형식(CSV 값 이스케이프, NDJSON 주문별 묶음)을 확인합니다.
+ */
+@SpringBootTest
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderExportService orderExportService;
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void csvQuotesValuesWithSeparatorsAndQuotes() throws IOException {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS); // 이 테스트에서 만든 주문만 내보냄
+        Long productId = saveProduct(productRepository, "쉼표, \"따옴표\" 상품", "1000", 10).getProductId();
+        OrderDTO order = placeOrder(new PlaceOrderRequest.Line(productId, 2));
+
+        String csv = export(from, OrderExportService.Format.CSV);
+
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isEqualTo("orderId,orderNumber,username,orderDate,totalAmount,status," +
+                "orderItemId,productId,productName,quantity,price");
+        assertThat(lines.get(1)).contains(",\"쉼표, \"\"따옴표\"\" 상품\",");
+        // 가져오기와 같은 규칙으로 다시 분리하면 컬럼 수와 원래 값이 유지됨
+        List<String> columns = ProductImportService.splitCsv(lines.get(1));
+        assertThat(columns).hasSize(11);
+        assertThat(columns.get(0)).isEqualTo(String.valueOf(order.getId()));
+        assertThat(columns.get(8)).isEqualTo("쉼표, \"따옴표\" 상품");
+        assertThat(columns.get(9)).isEqualTo("2");
+    }
+
+    @Test
+    void ndjsonWritesOneLinePerOrderWithItsItems() throws IOException {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Long first = saveProduct(productRepository, "내보내기 상품 A", "1000", 10).getProductId();
+        Long second = saveProduct(productRepository, "내보내기 상품 B", "500", 10).getProductId();
+        OrderDTO twoItems = placeOrder(new PlaceOrderRequest.Line(first, 1), new PlaceOrderRequest.Line(second, 3));
+        OrderDTO oneItem = placeOrder(new PlaceOrderRequest.Line(second, 1));
+
+        String ndjson = export(from, OrderExportService.Format.NDJSON);
+
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode firstOrder = objectMapper.readTree(lines.get(0));
+        assertThat(firstOrder.get("id").asLong()).isEqualTo(twoItems.getId());
+        assertThat(firstOrder.get("orderItems")).hasSize(2);
+        assertThat(firstOrder.get("orderItems").findValues("productId")).extracting(JsonNode::asLong).containsExactlyInAnyOrder(first, second);
+        JsonNode secondOrder = objectMapper.readTree(lines.get(1));
+        assertThat(secondOrder.get("id").asLong()).isEqualTo(oneItem.getId());
+        assertThat(secondOrder.get("orderItems")).singleElement()
+                .satisfies(item -> assertThat(item.get("quantity").asInt()).isEqualTo(1));
+    }
+
+    private OrderDTO placeOrder(PlaceOrderRequest.Line... lines) {
+        Long memberId = memberRepository.findByEmail("jdj@email.com").orElseThrow().getMemberId();
+        return orderPlacementService.placeOrder(memberId, new PlaceOrderRequest(List.of(lines)));
+    }
+
+    private String export(LocalDateTime from, OrderExportService.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(from, null, null, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nrzm.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderNumberGeneratorTest {
+
+    private static final int NODES = 4;
+    private static final int THREADS_PER_NODE = 4;
+    private static final int IDS_PER_THREAD = 100_000;
+
+    @Test
+    void idsAreUniqueAcrossNodesAndThreads() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet(NODES * THREADS_PER_NODE * IDS_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(NODES * THREADS_PER_NODE);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int node = 0; node < NODES; node++) {
+            OrderNumberGenerator generator = new OrderNumberGenerator(node);
+            for (int t = 0; t < THREADS_PER_NODE; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int duplicates = 0;
+                    long previous = -1;
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        long id = generator.nextId();
+                        assertThat(id).isGreaterThan(previous); // 한 스레드에서 발급 순서대로 증가
+                        previous = id;
+                        if (!ids.add(id)) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                }));
+            }
+        }
+
+        start.countDown();
+        int duplicates = 0;
+        for (Future<Integer> future : futures) {
+            duplicates += future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(duplicates).isZero();
+        assertThat(ids).hasSize(NODES * THREADS_PER_NODE * IDS_PER_THREAD);
+    }
+
+    @Test
+    void sameMillisecondOverflowAndClockRollbackStayUnique() {
+        AtomicLong now = new AtomicLong(OrderNumberGenerator.EPOCH_MILLIS + 1_000);
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, now::get);
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) { // 한 밀리초 순번(4096) 초과
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+
+        now.addAndGet(-500); // 시계가 뒤로 감
+        long id = generator.nextId();
+        assertThat(id).isGreaterThan(previous);
+        assertThat(ids.add(id)).isTrue();
+    }
+
+    @Test
+    void orderNumbersSortLikeCreationOrder() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1);
+        String first = generator.nextOrderNumber();
+        String second = generator.nextOrderNumber();
+
+        assertThat(first).hasSize(19);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void rejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(OrderNumberGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 상품에 다수의 구매자가 동시에 주문할 때 재고 이상으로 판매되지 않는지 확인합니다.
+ * (처리량 측정은 loadtest.OrderPlacementLoadTest)
+ */
+@SpringBootTest
+class OrderPlacementServiceTest {
+
+    private static final int BUYERS = 128;
+    private static final int ORDERS_PER_BUYER = 4;
+    private static final int STOCK = 300;
+
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void concurrentBuyersNeverOversell() throws Exception {
+        Long productId = saveProduct(productRepository, "한정판 상품", "10000", STOCK).getProductId();
+        Member member = memberRepository.findByEmail("jdj@email.com").orElseThrow();
+
+        PlaceOrderRequest request = new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 1)));
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ORDERS_PER_BUYER; j++) {
+                    try {
+                        orderPlacementService.placeOrder(member.getMemberId(), request);
+                        placed.incrementAndGet();
+                    } catch (InsufficientStockException e) {
+                        soldOut.incrementAndGet();
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(placed.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(BUYERS * ORDERS_PER_BUYER - STOCK);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    void stockDecrementEvictsOnlyOrderedProduct() {
+        Long orderedId = saveProduct(productRepository, "캐시 테스트 상품", "10000", 10).getProductId();
+        Long otherId = productRepository.findAll().get(0).getProductId();
+        productRepository.findById(orderedId);
+        productRepository.findById(otherId);
+        assertThat(entityManagerFactory.getCache().contains(Product.class, otherId)).isTrue();
+
+        Member member = memberRepository.findByEmail("jdj@email.com").orElseThrow();
+        orderPlacementService.placeOrder(member.getMemberId(),
+                new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(orderedId, 1))));
+
+        // 주문한 상품만 무효화되고 다른 상품은 2차 캐시에 남아 있어야 함
+        assertThat(entityManagerFactory.getCache().contains(Product.class, orderedId)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Product.class, otherId)).isTrue();
+        assertThat(productRepository.findById(orderedId).orElseThrow().getStockQuantity()).isEqualTo(9);
+    }
+}
@@ -0,0 +1,90 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.TestFixtures;
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.OrderReportRow;
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 증분 갱신(신규/수정/삭제 주문)이 전체 재적재와 같은 결과를 내는지 확인합니다.
+ * 작은 scan-chunk-rows 로 구간 분할(주문 경계 맞춤) 경로도 함께 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}", // 설정이 달라 컨텍스트를 따로 쓰므로 DB 도 분리
+        "report.scan-chunk-rows=2"
+})
+class OrderReportEngineTest {
+
+    private static final int CATEGORY_ID = 9901;
+
+    @Autowired
+    private OrderReportEngine orderReportEngine;
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void incrementalRefreshMatchesFullRebuild() {
+        Long first = saveProduct("리포트 상품 A", "1000.50");
+        Long second = saveProduct("리포트 상품 B", "250");
+        Member seoul = memberRepository.findByEmail("lss@email.com").orElseThrow();   // 서울특별시 중구
+        Member gyeonggi = memberRepository.findByEmail("hmh@email.com").orElseThrow(); // 경기도 여주시
+
+        OrderDTO order1 = orderPlacementService.placeOrder(seoul.getMemberId(), new PlaceOrderRequest(List.of(
+                new PlaceOrderRequest.Line(first, 2), new PlaceOrderRequest.Line(second, 4))));
+        OrderDTO order2 = orderPlacementService.placeOrder(gyeonggi.getMemberId(), new PlaceOrderRequest(List.of(
+                new PlaceOrderRequest.Line(first, 1))));
+        orderPlacementService.placeOrder(seoul.getMemberId(), new PlaceOrderRequest(List.of(
+                new PlaceOrderRequest.Line(second, 3))));
+        orderReportEngine.refresh(false);
+
+        OrderReportEngine.Filter category = new OrderReportEngine.Filter(null, null, null, CATEGORY_ID, null, null);
+        assertThat(orderReportEngine.query(EnumSet.of(OrderReportEngine.Dimension.REGION), category).rows()).containsExactly(
+                new OrderReportRow(null, null, null, null, null, "경기도", 1, 1, 1, new BigDecimal("1000.50")),
+                new OrderReportRow(null, null, null, null, null, "서울특별시", 2, 3, 9, new BigDecimal("3751.00")));
+
+        // 기존 주문의 상태 변경과 삭제는 통지된 주문만 다시 읽어 반영
+        Order changed = orderService.getOrderById(order1.getId());
+        changed.setStatus(Order.OrderStatus.CANCELLED);
+        orderService.saveOrder(changed);
+        orderService.deleteOrder(order2.getId());
+        orderReportEngine.refresh(false);
+
+        EnumSet<OrderReportEngine.Dimension> byStatusAndProduct = EnumSet.of(OrderReportEngine.Dimension.STATUS, OrderReportEngine.Dimension.PRODUCT);
+        assertThat(orderReportEngine.query(byStatusAndProduct, category).rows()).containsExactly(
+                new OrderReportRow(null, null, Order.OrderStatus.PENDING, null, second, null, 1, 1, 3, new BigDecimal("750.00")),
+                new OrderReportRow(null, null, Order.OrderStatus.CANCELLED, null, first, null, 1, 1, 2, new BigDecimal("2001.00")),
+                new OrderReportRow(null, null, Order.OrderStatus.CANCELLED, null, second, null, 1, 1, 4, new BigDecimal("1000.00")));
+
+        OrderReportEngine.Filter all = new OrderReportEngine.Filter(null, null, null, null, null, null);
+        Set<OrderReportEngine.Dimension> everything = EnumSet.allOf(OrderReportEngine.Dimension.class);
+        List<OrderReportRow> incremental = orderReportEngine.query(everything, all).rows();
+        List<OrderReportRow> byMonthIncremental = orderReportEngine.query(EnumSet.of(OrderReportEngine.Dimension.MONTH), all).rows();
+        orderReportEngine.refresh(true);
+        assertThat(orderReportEngine.query(everything, all).rows()).isEqualTo(incremental);
+        assertThat(orderReportEngine.query(EnumSet.of(OrderReportEngine.Dimension.MONTH), all).rows()).isEqualTo(byMonthIncremental);
+    }
+
+    private Long saveProduct(String name, String price) {
+        return TestFixtures.saveProduct(productRepository, name, price, 100, CATEGORY_ID).getProductId();
+    }
+}
@@ -0,0 +1,115 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.config.logging.SqlStatementCounter;
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.entity.OrderItem;
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.OrderRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 목록 조회의 SQL 실행 수가 페이지 크기, 주문상품 수와 무관하게 일정한지 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+class OrderServiceTest {
+
+    private static final int ORDERS = 12;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.findByEmail("lsg@email.com").orElseThrow();
+        List<Product> products = productRepository.findAll();
+
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setMember(member);
+            order.setOrderNumber(UUID.randomUUID().toString());
+            order.setOrderDate(LocalDateTime.now().plusMinutes(i + 1)); // 초기 데이터 주문보다 최신
+            order.setStatus(Order.OrderStatus.PENDING);
+
+            List<OrderItem> items = new ArrayList<>();
+            BigDecimal total = BigDecimal.ZERO;
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = products.get((i + j) % products.size());
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1);
+                item.setPrice(product.getPrice());
+                items.add(item);
+                total = total.add(product.getPrice());
+            }
+            order.setOrderItems(items);
+            order.setTotalAmount(total);
+            orderRepository.save(order);
+        }
+
+        // 조회 시 영속성 컨텍스트가 아닌 DB 에서 읽도록 반영 후 비움
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllOrdersUsesConstantNumberOfStatements() {
+        SqlStatementCounter.start();
+        Page<OrderDTO> page = orderService.getAllOrders(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "orderDate")));
+        int statements = SqlStatementCounter.stop();
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(order -> {
+            assertThat(order.getUsername()).isNotNull();
+            assertThat(order.getOrderItems()).isNotEmpty()
+                    .allSatisfy(item -> assertThat(item.getProductName()).isNotNull());
+        });
+        // 주문 페이지, 전체 건수, 주문상품
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void getAllOrdersByMemberUsesConstantNumberOfStatements() {
+        SqlStatementCounter.start();
+        Page<OrderDTO> page = orderService.getAllOrdersByMember(member.getMemberId(), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "orderDate")));
+        int statements = SqlStatementCounter.stop();
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(order ->
+                assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+        assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(ORDERS);
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,89 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private final ProductCache productCache = new ProductCache(new SimpleMeterRegistry(), true, 100, 100, Duration.ofMinutes(10));
+
+    @Test
+    void pageIsCachedWhenNothingChangesDuringLoad() {
+        AtomicInteger loads = new AtomicInteger();
+
+        productCache.getPage(FIRST_PAGE, () -> page(loads, 1000));
+        productCache.getPage(FIRST_PAGE, () -> page(loads, 1000));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void pageLoadedBeforeInvalidationIsNotKept() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+
+        // DB 를 읽은 뒤(이전 가격) 캐시에 넣기 전에 다른 요청의 가격 변경이 커밋되고 무효화됨
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Page<Product>> staleLoad = executor.submit(() -> productCache.getPage(FIRST_PAGE, () -> {
+            Page<Product> page = page(loads, 1000);
+            loading.countDown();
+            await(committed);
+            return page;
+        }));
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+        productCache.evictUpdatedAfterCommit(List.of(1L)); // 트랜잭션 밖이므로 즉시 무효화
+        committed.countDown();
+        assertThat(staleLoad.get(10, TimeUnit.SECONDS).getContent().get(0).getPrice()).isEqualByComparingTo("1000");
+        executor.shutdown();
+
+        Page<Product> page = productCache.getPage(FIRST_PAGE, () -> page(loads, 2000));
+
+        assertThat(page.getContent().get(0).getPrice()).isEqualByComparingTo("2000");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missingProductIsReloadedAfterInsert() {
+        assertThat(productCache.get(1L, id -> Optional.empty())).isNull();
+
+        productCache.evictInsertedOrDeletedAfterCommit(List.of(1L)); // 일괄 등록 등으로 해당 id 가 생성됨
+
+        Product product = productCache.get(1L, id -> Optional.of(page(new AtomicInteger(), 1000).getContent().get(0)));
+        assertThat(product).isNotNull();
+    }
+
+    private static Page<Product> page(AtomicInteger loads, int price) {
+        loads.incrementAndGet();
+        Product product = new Product();
+        product.setProductId(1L);
+        product.setName("상품");
+        product.setPrice(BigDecimal.valueOf(price));
+        product.setStockQuantity(10);
+        return new PageImpl<>(List.of(product), FIRST_PAGE, 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.ProductImportBatch;
+import com.nrzm.demo.dto.ProductImportSummary;
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * CSV 파싱 오류, 헤더 검증, 배치 저장 실패, 배치당 오류 보고 건수 제한을 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}", // 설정이 달라 컨텍스트를 따로 쓰므로 DB 도 분리
+        "product.import.max-errors-per-batch=2"
+})
+class ProductImportServiceTest {
+
+    private static final String HEADER = "name,description,price,stockQuantity,categoryId";
+
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void quotedValuesAreParsedAndMalformedQuotesRejectOnlyThatRow() throws IOException {
+        List<ProductImportBatch> batches = new ArrayList<>();
+        ProductImportSummary summary = importCsv(10, batches,
+                HEADER,
+                "\"15\"\" 노트북\",\"쉼표, 포함\",1000,1,9902",
+                "\"닫히지 않은 따옴표,설명,1000,1,9902",
+                "마우스,설명,500,1,9902");
+
+        assertThat(summary).isEqualTo(new ProductImportSummary(true, 3, 2, 1, 1, null));
+        assertThat(batches.get(0).errors()).singleElement()
+                .satisfies(error -> assertThat(error.line()).isEqualTo(3)) // 헤더 포함 줄 번호
+                .satisfies(error -> assertThat(error.message()).contains("큰따옴표"));
+        assertThat(productRepository.findAll()).filteredOn(product -> product.getCategoryId() == 9902)
+                .extracting(Product::getName, Product::getDescription)
+                .containsExactlyInAnyOrder(
+                        tuple("15\" 노트북", "쉼표, 포함"),
+                        tuple("마우스", "설명"));
+    }
+
+    @Test
+    void headerWithBomIsAccepted() throws IOException {
+        ProductImportSummary summary = importCsv(10, new ArrayList<>(), "\uFEFF" + HEADER, "키보드,설명,100,1,9903");
+
+        assertThat(summary.error()).isNull();
+        assertThat(summary.imported()).isEqualTo(1);
+    }
+
+    @Test
+    void badHeaderStopsImportWithoutSaving() throws IOException {
+        long before = productRepository.count();
+
+        for (String header : List.of("name,description,price,stock,categoryId", "\"name,description,price,stockQuantity,categoryId", "")) {
+            ProductImportSummary summary = importCsv(10, new ArrayList<>(), header, "키보드,설명,100,1,9904");
+            assertThat(summary.error()).as(header).contains("헤더");
+            assertThat(summary.rows()).isZero();
+        }
+        assertThat(productRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void failedBatchIsCountedAsRejectedAndImportContinues() throws IOException {
+        List<ProductImportBatch> batches = new ArrayList<>();
+        ProductImportSummary summary = importCsv(2, batches,
+                HEADER,
+                "정상 상품,설명,100,1,9905",
+                "x".repeat(300) + ",설명,100,1,9905", // 검증은 통과하지만 컬럼 길이 초과로 저장 실패 -> 배치 전체 롤백
+                "다음 배치 상품 1,설명,100,1,9905",
+                "다음 배치 상품 2,설명,100,1,9905");
+
+        assertThat(summary).isEqualTo(new ProductImportSummary(true, 4, 2, 2, 2, null));
+        assertThat(batches.get(0).imported()).isZero();
+        assertThat(batches.get(0).rejected()).isEqualTo(2);
+        assertThat(batches.get(0).errors()).singleElement()
+                .satisfies(error -> assertThat(error.message()).startsWith("배치 저장 실패"));
+        assertThat(batches.get(1).imported()).isEqualTo(2);
+        assertThat(productRepository.findAll()).filteredOn(product -> product.getCategoryId() == 9905)
+                .extracting(Product::getName)
+                .containsExactlyInAnyOrder("다음 배치 상품 1", "다음 배치 상품 2");
+    }
+
+    @Test
+    void errorsReportedPerBatchAreCappedButAllRejectionsAreCounted() throws IOException {
+        List<ProductImportBatch> batches = new ArrayList<>();
+        ProductImportSummary summary = importCsv(10, batches,
+                HEADER,
+                ",설명,100,1,9906",
+                "상품,설명,-1,1,9906",
+                "상품,설명,abc,1,9906",
+                "상품,설명,100,1",
+                "상품,설명,100,1,9906");
+
+        assertThat(summary).isEqualTo(new ProductImportSummary(true, 5, 1, 4, 1, null));
+        assertThat(batches).singleElement().satisfies(batch -> {
+            assertThat(batch.rejected()).isEqualTo(4);
+            assertThat(batch.errors()).extracting(ProductImportBatch.RowError::line).containsExactly(2L, 3L);
+        });
+    }
+
+    private ProductImportSummary importCsv(int batchSize, List<ProductImportBatch> batches, String... lines) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return productImportService.importProducts(reader, ProductImportService.Format.CSV, batchSize, batches::add);
+    }
+}
@@ -0,0 +1,106 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.dto.SalesRollupRow;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재계산 도중 커밋(또는 커밋 중 롤백)된 주문 변경이 교체된 집계에서 빠지거나 두 번 반영되지 않는지 확인합니다.
+ * 구간을 주문 1건으로 잘게 나누어 재계산이 변경과 겹치도록 합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid}", // 설정이 달라 컨텍스트를 따로 쓰므로 DB 도 분리
+        "analytics.rollup.rebuild-chunk-size=1",
+        "analytics.rollup.rebuild-parallelism=2"
+})
+class SalesRollupRebuildTest {
+
+    private static final int ORDERS = 200;
+
+    @Autowired
+    private SalesRollupStore salesRollupStore;
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void changesCommittedDuringRebuildAreKept() throws Exception {
+        Long productId = saveProduct(productRepository, "재계산 테스트 상품", "1000", 10_000).getProductId();
+        Long memberId = memberRepository.findByEmail("lsg@email.com").orElseThrow().getMemberId();
+        PlaceOrderRequest request = new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 1)));
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orderIds.add(orderPlacementService.placeOrder(memberId, request).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> {
+            start.await();
+            return salesRollupStore.rebuild();
+        }));
+        futures.add(executor.submit(() -> { // 생성
+            start.await();
+            for (int i = 0; i < ORDERS / 4; i++) {
+                orderPlacementService.placeOrder(memberId, request);
+            }
+            return null;
+        }));
+        futures.add(executor.submit(() -> { // 상태 변경 (뒤쪽 구간부터: 아직 적재되지 않은 주문)
+            start.await();
+            for (int i = ORDERS - 1; i >= ORDERS / 2; i--) {
+                Order order = orderService.getOrderById(orderIds.get(i));
+                order.setStatus(Order.OrderStatus.SHIPPED);
+                orderService.saveOrder(order);
+            }
+            return null;
+        }));
+        futures.add(executor.submit(() -> { // 삭제 (앞쪽 구간부터: 이미 적재된 주문)
+            start.await();
+            for (int i = 0; i < ORDERS / 4; i++) {
+                orderService.deleteOrder(orderIds.get(i));
+            }
+            return null;
+        }));
+        futures.add(executor.submit(() -> { // 커밋 중 실패(없는 회원의 외래 키 위반)로 롤백
+            start.await();
+            for (int i = 0; i < ORDERS / 4; i++) {
+                try {
+                    orderPlacementService.placeOrder(Long.MAX_VALUE, request);
+                } catch (RuntimeException expected) {
+                    // 롤백은 집계에 반영되지 않아야 함
+                }
+            }
+            return null;
+        }));
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        EnumSet<SalesRollupStore.Dimension> all = EnumSet.allOf(SalesRollupStore.Dimension.class);
+        List<SalesRollupRow> afterConcurrentRebuild = salesRollupStore.query(null, null, all, null, null);
+        assertThat(salesRollupStore.rebuild()).isPositive();
+        assertThat(salesRollupStore.query(null, null, all, null, null)).isEqualTo(afterConcurrentRebuild);
+    }
+}
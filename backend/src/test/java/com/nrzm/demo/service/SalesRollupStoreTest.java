@@ -0,0 +1,69 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.dto.SalesRollupRow;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성/수정/삭제가 커밋 후 판매 집계에 증분 반영되고, 재계산 결과와 일치하는지 확인합니다.
+ */
+@SpringBootTest
+class SalesRollupStoreTest {
+
+    @Autowired
+    private SalesRollupStore salesRollupStore;
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        Long productId = saveProduct(productRepository, "집계 테스트 상품", "12345.67", 10).getProductId();
+        Member member = memberRepository.findByEmail("lsg@email.com").orElseThrow();
+        EnumSet<SalesRollupStore.Dimension> byProductAndStatus = EnumSet.of(SalesRollupStore.Dimension.PRODUCT, SalesRollupStore.Dimension.STATUS);
+
+        OrderDTO placed = orderPlacementService.placeOrder(member.getMemberId(),
+                new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 2), new PlaceOrderRequest.Line(productId, 1))));
+        LocalDate day = placed.getOrderDate().toLocalDate();
+        assertThat(salesRollupStore.query(day, day, byProductAndStatus, null, productId))
+                .containsExactly(new SalesRollupRow(null, productId, Order.OrderStatus.PENDING, 1, 3, new BigDecimal("37037.01")));
+
+        Order order = orderService.getOrderById(placed.getId());
+        order.setStatus(Order.OrderStatus.SHIPPED);
+        orderService.saveOrder(order);
+        assertThat(salesRollupStore.query(day, day, byProductAndStatus, null, productId))
+                .containsExactly(new SalesRollupRow(null, productId, Order.OrderStatus.SHIPPED, 1, 3, new BigDecimal("37037.01")));
+
+        // 증분 반영 결과가 주문 테이블에서 다시 계산한 결과와 같아야 함
+        EnumSet<SalesRollupStore.Dimension> all = EnumSet.allOf(SalesRollupStore.Dimension.class);
+        EnumSet<SalesRollupStore.Dimension> byDayAndStatus = EnumSet.of(SalesRollupStore.Dimension.DAY, SalesRollupStore.Dimension.STATUS);
+        List<SalesRollupRow> incrementalItems = salesRollupStore.query(null, null, all, null, null);
+        List<SalesRollupRow> incrementalOrders = salesRollupStore.query(null, null, byDayAndStatus, null, null);
+        assertThat(salesRollupStore.rebuild()).isPositive();
+        assertThat(salesRollupStore.query(null, null, all, null, null)).isEqualTo(incrementalItems);
+        assertThat(salesRollupStore.query(null, null, byDayAndStatus, null, null)).isEqualTo(incrementalOrders);
+
+        orderService.deleteOrder(placed.getId());
+        assertThat(salesRollupStore.query(day, day, byProductAndStatus, null, productId)).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.nrzm.demo.service;
+
+import com.nrzm.demo.config.logging.SqlStatementCounter;
+import com.nrzm.demo.dto.MemberPatch;
+import com.nrzm.demo.dto.OrderDTO;
+import com.nrzm.demo.dto.OrderPatch;
+import com.nrzm.demo.dto.PatchResult;
+import com.nrzm.demo.dto.PlaceOrderRequest;
+import com.nrzm.demo.dto.ProductPatch;
+import com.nrzm.demo.dto.SalesRollupRow;
+import com.nrzm.demo.entity.Member;
+import com.nrzm.demo.entity.Order;
+import com.nrzm.demo.entity.Product;
+import com.nrzm.demo.repository.MemberRepository;
+import com.nrzm.demo.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.nrzm.demo.TestFixtures.saveProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 부분 수정(PATCH)이 조회 없이 UPDATE 한 번으로 반영되고, 오래된 version 은 거부되는지 확인합니다.
+ */
+@SpringBootTest
+class VersionedPatchTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderPlacementService orderPlacementService;
+    @Autowired
+    private SalesRollupStore salesRollupStore;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void productPatchIsSingleStatementAndRejectsStaleVersion() {
+        Product saved = saveProduct(productRepository, "PATCH 상품", "1000", 10);
+        Long id = saved.getProductId();
+        Long otherId = productRepository.findAll().get(0).getProductId(); // 2차 캐시에 적재
+
+        SqlStatementCounter.start();
+        PatchResult result = productService.patchProduct(id, new ProductPatch(saved.getVersion(), null, null, new BigDecimal("1200"), null, null));
+        assertThat(SqlStatementCounter.stop()).isEqualTo(1);
+        assertThat(result.version()).isEqualTo(saved.getVersion() + 1);
+        // 수정한 상품만 무효화되고 Product 2차 캐시 영역 전체가 비워지지 않아야 함
+        assertThat(entityManagerFactory.getCache().contains(Product.class, otherId)).isTrue();
+
+        Product patched = productService.getProductById(id);
+        assertThat(patched.getPrice()).isEqualByComparingTo("1200");
+        assertThat(patched.getName()).isEqualTo("PATCH 상품");
+        assertThat(patched.getVersion()).isEqualTo(result.version());
+
+        // 이전 version 으로 다시 수정하면 충돌
+        assertThatThrownBy(() -> productService.patchProduct(id, new ProductPatch(saved.getVersion(), "덮어쓰기", null, null, null, null)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> productService.patchProduct(-1L, new ProductPatch(0L, "없음", null, null, null, null)))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> productService.patchProduct(id, new ProductPatch(null, "version 없음", null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // version 없이 보낸 전체 수정(PUT)은 기존처럼 반영
+        patched.setVersion(null);
+        patched.setDescription("전체 수정");
+        assertThat(productService.saveProduct(patched).getVersion()).isEqualTo(result.version() + 1);
+    }
+
+    @Test
+    void memberPatchChangesOnlyGivenFields() {
+        Member member = memberRepository.findByEmail("py@email.com").orElseThrow();
+
+        PatchResult result = memberService.patchMember(member.getMemberId(), new MemberPatch(member.getVersion(), null, null, "010-9999-0000", null, null));
+
+        Member patched = memberRepository.findById(member.getMemberId()).orElseThrow();
+        assertThat(patched.getPhoneNumber()).isEqualTo("010-9999-0000");
+        assertThat(patched.getAddress()).isEqualTo(member.getAddress());
+        assertThat(patched.getVersion()).isEqualTo(result.version());
+    }
+
+    @Test
+    void orderStatusPatchMovesSalesRollup() {
+        Long productId = saveProduct(productRepository, "PATCH 주문 상품", "500", 10).getProductId();
+        Member member = memberRepository.findByEmail("hh@email.com").orElseThrow();
+        OrderDTO order = orderPlacementService.placeOrder(member.getMemberId(),
+                new PlaceOrderRequest(List.of(new PlaceOrderRequest.Line(productId, 2))));
+
+        orderService.patchOrder(order.getId(), new OrderPatch(order.getVersion(), Order.OrderStatus.SHIPPED));
+
+        assertThat(orderService.getOrderById(order.getId()).getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+        LocalDate day = order.getOrderDate().toLocalDate();
+        assertThat(salesRollupStore.query(day, day, EnumSet.of(SalesRollupStore.Dimension.STATUS), null, productId))
+                .containsExactly(new SalesRollupRow(null, null, Order.OrderStatus.SHIPPED, 1, 2, new BigDecimal("1000.00")));
+    }
+}